@@ -0,0 +1,50 @@
+#!/bin/sh
+# Training workload for the class-data-sharing archive (see Dockerfile): touches every main
+# endpoint once so the classes behind them are loaded before the JVM exits and dumps the archive.
+# Responses are not checked; without a reachable Mongo the data calls fail fast, which still
+# loads the driver, filter chain, validation and error-handling classes.
+#
+#   scripts/cds-training.sh [base-url] [internal-api-key]
+BASE="${1:-http://localhost:8080}"
+KEY="${2:-training-key}"
+JSON='Content-Type: application/json'
+
+call() {
+    curl -s -o /dev/null --max-time 5 "$@" || true
+}
+
+for _ in $(seq 1 240); do
+    curl -fs -o /dev/null "$BASE/.well-known/jwks.json" && break
+    sleep 0.5
+done
+
+call "$BASE/.well-known/jwks.json"
+call "$BASE/v3/api-docs"
+call "$BASE/swagger-ui/index.html"
+
+call -X POST "$BASE/auth/signup" -H "$JSON" \
+    -d '{"name":"Training User","email":"training@example.com","password":"Password123"}'
+call -X POST "$BASE/auth/signup" -H "$JSON" -d '{"name":"","email":"not-an-email"}'
+call -X POST "$BASE/auth/signin" -H "$JSON" -d '{"email":"training@example.com","password":"wrong-password"}'
+
+SIGNIN="$(curl -s --max-time 5 -X POST "$BASE/auth/signin" -H "$JSON" \
+    -d '{"email":"training@example.com","password":"Password123"}')"
+TOKEN="$(echo "$SIGNIN" | sed -n 's/.*"token":"\([^"]*\)".*/\1/p')"
+REFRESH="$(echo "$SIGNIN" | sed -n 's/.*"refreshToken":"\([^"]*\)".*/\1/p')"
+ID="$(curl -s --max-time 5 "$BASE/api/users" -H "Authorization: Bearer $TOKEN" \
+    | sed -n 's/.*"id":"\([^"]*\)".*/\1/p')"
+AUTH="Authorization: Bearer ${TOKEN:-not.a.token}"
+
+call "$BASE/api/users"
+call "$BASE/api/users" -H "$AUTH"
+for TYPE in application/json application/x-protobuf application/cbor application/x-jackson-smile; do
+    call "$BASE/api/users" -H "$AUTH" -H "Accept: $TYPE"
+    call "$BASE/api/users/${ID:-000000000000000000000000}" -H "$AUTH" -H "Accept: $TYPE"
+done
+call "$BASE/api/users/export" -H "$AUTH"
+call -X PUT "$BASE/api/users/${ID:-000000000000000000000000}" -H "$AUTH" -H "$JSON" -d '{"name":"Trained User"}'
+
+call -X POST "$BASE/internal/tokens/introspect" -H "X-Internal-Api-Key: $KEY" -H "$JSON" \
+    -d "{\"tokens\":[\"${TOKEN:-not.a.token}\",\"not.a.token\"]}"
+call -X POST "$BASE/auth/refresh" -H "$JSON" -d "{\"refreshToken\":\"${REFRESH:-unknown}\"}"
+call -X POST "$BASE/auth/signout" -H "$AUTH" -H "$JSON" -d "{\"refreshToken\":\"${REFRESH:-unknown}\"}"
@@ -0,0 +1,57 @@
+#!/usr/bin/env bash
+# Compares time to first served request and resident memory of the JVM jar and the native executable.
+#
+#   mvn package -DskipTests && cp target/backend-0.0.1-SNAPSHOT.jar /tmp/backend.jar
+#   mvn -Pnative native:compile -DskipTests
+#   scripts/compare-startup.sh /tmp/backend.jar target/backend [runs]
+#
+# Needs a reachable Mongo (MONGO_URI, default mongodb://localhost:27017). Linux only (reads /proc).
+set -euo pipefail
+
+JAR="$(realpath "$1")"
+BINARY="$(realpath "$2")"
+RUNS="${3:-5}"
+PORT="${COMPARE_PORT:-18081}"
+MONGO_URI="${MONGO_URI:-mongodb://localhost:27017}"
+
+WORKDIR="$(mktemp -d)"
+trap 'rm -rf "$WORKDIR"' EXIT
+cat > "$WORKDIR/.env" <<ENV
+MONGO_URI=$MONGO_URI/startup_compare
+DB_NAME=startup_compare
+SERVER_PORT=$PORT
+JWT_ALLOW_GENERATED_KEY=true
+ENV
+
+now_ms() { date +%s%3N; }
+
+# Prints "<ms until the first 200> <RSS in MB after a warm request>" for one run
+measure() {
+    local start pid rss
+    start="$(now_ms)"
+    (cd "$WORKDIR" && exec "$@") >/dev/null 2>&1 &
+    pid=$!
+    until curl -fs "http://localhost:$PORT/.well-known/jwks.json" >/dev/null; do
+        kill -0 "$pid" 2>/dev/null || { echo "process exited during startup" >&2; exit 1; }
+        sleep 0.02
+    done
+    echo -n "$(( $(now_ms) - start )) "
+    rss="$(awk '/VmRSS/ {print int($2 / 1024)}' "/proc/$pid/status")"
+    echo "$rss"
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+report() {
+    local name="$1"; shift
+    local results=()
+    for _ in $(seq 1 "$RUNS"); do
+        results+=("$(measure "$@")")
+    done
+    printf '%s\n' "${results[@]}" | sort -n | awk -v name="$name" '
+        { ms[NR] = $1; rss[NR] = $2 }
+        END { m = int((NR + 1) / 2); printf "%-7s startup %6d ms   rss %5d MB   (median of %d)\n", name, ms[m], rss[m], NR }'
+}
+
+report jvm java -jar "$JAR"
+report native "$BINARY"
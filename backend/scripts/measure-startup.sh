@@ -0,0 +1,56 @@
+#!/usr/bin/env bash
+# Startup time of the backend image with and without its trained CDS archive and AOT bean definitions.
+#
+#   docker build -t backend ./backend
+#   backend/scripts/measure-startup.sh backend [runs]
+#
+# Every run is a fresh container pinned to the same CPU and memory limits, against a throwaway
+# Mongo on a private network. The figure is Spring Boot's own "process running for" value at
+# "Started BackendApplication", i.e. JVM start to ready; the median of the runs is reported.
+set -euo pipefail
+
+IMAGE="${1:-backend}"
+RUNS="${2:-5}"
+CPUS="${MEASURE_CPUS:-2}"
+MEMORY="${MEASURE_MEMORY:-1g}"
+NETWORK="backend-startup-$$"
+
+docker network create "$NETWORK" >/dev/null
+docker run -d --rm --name "$NETWORK-mongo" --network "$NETWORK" mongo:7 >/dev/null
+cleanup() {
+    docker rm -f "$NETWORK-mongo" >/dev/null 2>&1 || true
+    docker network rm "$NETWORK" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+# Prints the seconds from JVM start to a started context for one container
+measure() {
+    local container seconds=""
+    container="$(docker run -d --network "$NETWORK" --cpus "$CPUS" --memory "$MEMORY" \
+        -e MONGO_URI="mongodb://$NETWORK-mongo:27017/startup" -e DB_NAME=startup \
+        -e JWT_ALLOW_GENERATED_KEY=true \
+        "$@")"
+    for _ in $(seq 1 600); do
+        seconds="$(docker logs "$container" 2>&1 \
+            | sed -n 's/.*Started BackendApplication in .* (process running for \([0-9.]*\)).*/\1/p')"
+        [[ -n "$seconds" ]] && break
+        sleep 0.1
+    done
+    docker rm -f "$container" >/dev/null
+    [[ -n "$seconds" ]] || { echo "container did not start" >&2; exit 1; }
+    echo "$seconds"
+}
+
+report() {
+    local name="$1"; shift
+    for _ in $(seq 1 "$RUNS"); do
+        measure "$@"
+    done | sort -n | awk -v name="$name" '
+        { s[NR] = $1 }
+        END { printf "%-9s %6.2f s   (median of %d, min %.2f, max %.2f)\n", name, s[int((NR + 1) / 2)], NR, s[1], s[NR] }'
+}
+
+# The image entrypoint: trained archive plus AOT bean definitions
+report trained "$IMAGE"
+# Same jar, JDK default CDS archive only and bean definitions built at startup
+report baseline --entrypoint java "$IMAGE" -jar jar/backend.jar
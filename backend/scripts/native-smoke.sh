@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+# Boots the native executable against a local Mongo and exercises the auth flow end to end.
+#
+#   mvn -Pnative native:compile -DskipTests
+#   scripts/native-smoke.sh [target/backend]
+#
+# MONGO_URI defaults to mongodb://localhost:27017; a throwaway database is used and dropped.
+set -euo pipefail
+
+BINARY="$(realpath "${1:-target/backend}")"
+PORT="${SMOKE_PORT:-18080}"
+MONGO_URI="${MONGO_URI:-mongodb://localhost:27017}"
+DB_NAME="native_smoke_$$"
+BASE="http://localhost:$PORT"
+
+WORKDIR="$(mktemp -d)"
+cat > "$WORKDIR/.env" <<ENV
+MONGO_URI=$MONGO_URI/$DB_NAME
+DB_NAME=$DB_NAME
+SERVER_PORT=$PORT
+JWT_ALLOW_GENERATED_KEY=true
+INTERNAL_API_KEYS=smoke-key
+ENV
+
+cleanup() {
+    [[ -n "${PID:-}" ]] && kill "$PID" 2>/dev/null && wait "$PID" 2>/dev/null || true
+    mongosh --quiet "$MONGO_URI/$DB_NAME" --eval 'db.dropDatabase()' >/dev/null 2>&1 || true
+    rm -rf "$WORKDIR"
+}
+trap cleanup EXIT
+
+fail() {
+    echo "FAIL: $*" >&2
+    echo "--- backend output ---" >&2
+    tail -n 50 "$WORKDIR/backend.out" >&2
+    exit 1
+}
+
+(cd "$WORKDIR" && exec "$BINARY") > "$WORKDIR/backend.out" 2>&1 &
+PID=$!
+
+for _ in $(seq 1 100); do
+    curl -fs "$BASE/.well-known/jwks.json" >/dev/null && break
+    kill -0 "$PID" 2>/dev/null || fail "backend exited during startup"
+    sleep 0.1
+done
+curl -fs "$BASE/.well-known/jwks.json" | grep -q '"kty":"RSA"' || fail "JWK set not served"
+
+json() { sed -n "s/.*\"$1\":\"\\([^\"]*\\)\".*/\\1/p"; }
+
+curl -fs -X POST "$BASE/auth/signup" -H 'Content-Type: application/json' \
+    -d '{"name":"Native Smoke","email":"smoke@example.com","password":"Password123"}' >/dev/null \
+    || fail "sign-up"
+
+SIGNIN="$(curl -fs -X POST "$BASE/auth/signin" -H 'Content-Type: application/json' \
+    -d '{"email":"smoke@example.com","password":"Password123"}')" || fail "sign-in"
+TOKEN="$(echo "$SIGNIN" | json token)"
+REFRESH="$(echo "$SIGNIN" | json refreshToken)"
+[[ -n "$TOKEN" && -n "$REFRESH" ]] || fail "sign-in response: $SIGNIN"
+
+curl -fs "$BASE/api/users" -H "Authorization: Bearer $TOKEN" | grep -q 'smoke@example.com' || fail "list users (JSON)"
+curl -fs "$BASE/api/users" -H "Authorization: Bearer $TOKEN" -H 'Accept: application/x-protobuf' >/dev/null \
+    || fail "list users (Protobuf)"
+
+curl -fs -X POST "$BASE/internal/tokens/introspect" -H 'X-Internal-Api-Key: smoke-key' \
+    -H 'Content-Type: application/json' -d "{\"tokens\":[\"$TOKEN\"]}" | grep -q '"active":true' \
+    || fail "introspection"
+
+curl -fs -X POST "$BASE/auth/refresh" -H 'Content-Type: application/json' \
+    -d "{\"refreshToken\":\"$REFRESH\"}" | grep -q '"token"' || fail "refresh"
+
+curl -fs "$BASE/v3/api-docs" | grep -q '"openapi"' || fail "OpenAPI document"
+
+echo "OK: native backend passed the smoke test"
@@ -0,0 +1,118 @@
+package com.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.convert.DurationUnit;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * All application settings, bound once at startup.
+ *
+ * application.properties maps each setting to its environment variable and default
+ * (e.g. {@code app.jwt.access-expiration=${JWT_ACCESS_EXPIRATION_MS:900000}}); variables come
+ * from the process environment or, failing that, from {@code .env} (see {@link DotenvEnvironmentPostProcessor}).
+ * Plain numbers bind as milliseconds for durations and bytes for sizes, unless noted otherwise.
+ */
+@ConfigurationProperties("app")
+public record AppProperties(
+        Mongo mongo,
+        Cors cors,
+        Jwt jwt,
+        TokenVersion tokenVersion,
+        Internal internal,
+        RateLimit rateLimit,
+        Concurrency concurrency,
+        ResponseCache responseCache,
+        BodyLimit bodyLimit,
+        Json json,
+        Startup startup,
+        Warmup warmup,
+        Health health,
+        Search search,
+        Stats stats,
+        UserStream userStream,
+        UserList userList) {
+
+    public record Mongo(String uri, String database, @DurationUnit(ChronoUnit.SECONDS) Duration readMaxStaleness) {}
+
+    public record Cors(String frontendOrigin) {}
+
+    /**
+     * @param keysDir           directory of {@code <kid>.pem} keys; blank only with {@code allowGeneratedKey}
+     * @param activeKid         key new tokens are signed with, required with a key directory
+     * @param allowGeneratedKey sign with a throwaway key when there is no key directory (development only)
+     */
+    public record Jwt(Duration accessExpiration, Duration refreshExpiration, String keysDir, String activeKid,
+                      boolean allowGeneratedKey) {}
+
+    public record TokenVersion(@DurationUnit(ChronoUnit.SECONDS) Duration maxAge, long cacheMaxUsers) {}
+
+    public record Internal(List<String> apiKeys) {}
+
+    /**
+     * Limits are {@code <requests>/<seconds>}, per client IP and per target email.
+     */
+    public record RateLimit(int maxKeys, String signinIp, String signinEmail, String signupIp, String signupEmail) {}
+
+    public record Concurrency(int initial, int min, int max) {}
+
+    public record ResponseCache(DataSize maxSize) {}
+
+    /**
+     * Request body limits by route; {@code fallback} applies to everything else.
+     */
+    public record BodyLimit(DataSize auth, DataSize users, DataSize internal, DataSize fallback) {}
+
+    public record Json(int maxStringLength, int maxNestingDepth) {}
+
+    /**
+     * @param reportSize how many of the slowest bean initialisations the startup report lists
+     */
+    public record Startup(int reportSize) {}
+
+    /**
+     * @param iterations  rounds of synthetic requests before accepting traffic
+     * @param maxDuration upper bound on warm-up time, whatever the iterations left
+     */
+    public record Warmup(boolean enabled, int iterations, Duration maxDuration) {}
+
+    /**
+     * Readiness turns out of service above any of the saturation thresholds.
+     *
+     * @param mongoPingInterval          how often the background ping runs; probes read its last result
+     * @param maxMongoWaitQueue          threads waiting for a pooled MongoDB connection
+     * @param maxConcurrencyUtilization  in-flight requests over the adaptive concurrency limit, 0 to 1
+     * @param maxHashingInflight         password hashes and checks in progress
+     */
+    public record Health(Duration mongoPingInterval, int maxMongoWaitQueue, double maxConcurrencyUtilization,
+                         int maxHashingInflight) {}
+
+    /**
+     * @param maxTime server-side time limit of each search query
+     */
+    public record Search(int defaultLimit, int maxLimit, Duration maxTime) {}
+
+    /**
+     * @param days              days of signups kept reconciled, and the most the stats endpoint returns
+     * @param reconcileInterval how often rollups are recounted from the users collection
+     */
+    public record Stats(int days, Duration reconcileInterval, Duration reconcileInitialDelay) {}
+
+    /**
+     * @param replaySize            recent events kept for clients reconnecting with {@code Last-Event-ID}
+     * @param subscriberBuffer      events queued per client; a client further behind is disconnected
+     * @param heartbeat             idle time after which a comment is sent, so proxies keep the connection
+     * @param maxConnectionDuration connections are closed after this long and clients reconnect, presenting
+     *                              a current token
+     */
+    public record UserStream(int maxSubscribers, int replaySize, int subscriberBuffer, Duration heartbeat,
+                             Duration maxConnectionDuration) {}
+
+    /**
+     * @param maxLimit largest page GET /api/users returns; larger limits are capped
+     */
+    public record UserList(int maxLimit) {}
+}
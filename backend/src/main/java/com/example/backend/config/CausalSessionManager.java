@@ -0,0 +1,156 @@
+package com.example.backend.config;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoClient;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Ties causally consistent Mongo sessions to the current HTTP request.
+ *
+ * Writers receive the session's operation time in the {@value #HEADER} response header.
+ * Sending it back on a later request makes reads from a secondary wait until that
+ * secondary has caught up, so a client always reads its own writes.
+ *
+ * Tokens are client input: one ahead of the cluster time would make the server refuse
+ * the read, so such tokens are ignored rather than passed on.
+ */
+@Component
+public class CausalSessionManager {
+
+    public static final String HEADER = "X-Causal-Token";
+
+    private static final Logger logger = LoggerFactory.getLogger(CausalSessionManager.class);
+
+    private static final ClientSessionOptions CAUSAL = ClientSessionOptions.builder()
+            .causallyConsistent(true)
+            .build();
+
+    private final MongoClient mongoClient;
+
+    // Highest cluster time seen by this client; tokens up to it need no round trip to check
+    private final AtomicReference<BsonTimestamp> clusterTime = new AtomicReference<>();
+
+    public CausalSessionManager(MongoClient mongoClient) {
+        this.mongoClient = mongoClient;
+    }
+
+    /**
+     * Starts a causally consistent session, advanced to the token sent by the client (if any)
+     * unless that token is ahead of the cluster time.
+     */
+    public ClientSession startSession() {
+        ClientSession session = mongoClient.startSession(CAUSAL);
+        BsonTimestamp readAfter = requestedOperationTime();
+        if (readAfter != null) {
+            if (isReached(readAfter, session)) {
+                session.advanceOperationTime(readAfter);
+            } else {
+                logger.warn("Ignoring {} header ahead of the cluster time", HEADER);
+            }
+        }
+        return session;
+    }
+
+    /**
+     * Whether the current request carries a token that reads must honour.
+     */
+    public boolean hasReadAfterToken() {
+        return requestedOperationTime() != null;
+    }
+
+    /**
+     * Returns the session's operation time to the client after a write.
+     * Standalone servers do not report operation times, in which case nothing is sent.
+     */
+    public void publishOperationTime(ClientSession session) {
+        observeClusterTime(session);
+        BsonTimestamp operationTime = session.getOperationTime();
+        HttpServletResponse response = currentResponse();
+        if (operationTime != null && response != null) {
+            response.setHeader(HEADER, encode(operationTime));
+        }
+    }
+
+    /**
+     * Whether the cluster time has reached the given token. Checked against the highest cluster
+     * time seen so far and, when the token is ahead of it, refreshed with a ping on the session.
+     * Standalone servers have no cluster time, so no token is ever reached there.
+     */
+    private boolean isReached(BsonTimestamp token, ClientSession session) {
+        BsonTimestamp known = clusterTime.get();
+        if (known != null && token.compareTo(known) <= 0) {
+            return true;
+        }
+        mongoClient.getDatabase("admin").runCommand(session, new Document("ping", 1));
+        known = observeClusterTime(session);
+        return known != null && token.compareTo(known) <= 0;
+    }
+
+    private BsonTimestamp observeClusterTime(ClientSession session) {
+        BsonDocument sessionClusterTime = session.getClusterTime();
+        if (sessionClusterTime == null || !sessionClusterTime.isTimestamp("clusterTime")) {
+            return clusterTime.get();
+        }
+        BsonTimestamp observed = sessionClusterTime.getTimestamp("clusterTime");
+        return clusterTime.accumulateAndGet(observed,
+                (current, next) -> current == null || next.compareTo(current) > 0 ? next : current);
+    }
+
+    static String encode(BsonTimestamp timestamp) {
+        return Integer.toUnsignedString(timestamp.getTime()) + "." + Integer.toUnsignedString(timestamp.getInc());
+    }
+
+    static BsonTimestamp decode(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return null;
+        }
+        try {
+            return new BsonTimestamp(
+                    Integer.parseUnsignedInt(token.substring(0, dot)),
+                    Integer.parseUnsignedInt(token.substring(dot + 1)));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private BsonTimestamp requestedOperationTime() {
+        HttpServletRequest request = currentRequest();
+        if (request == null) {
+            return null;
+        }
+        String token = request.getHeader(HEADER);
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        BsonTimestamp timestamp = decode(token.trim());
+        if (timestamp == null) {
+            logger.debug("Ignoring malformed {} header", HEADER);
+        }
+        return timestamp;
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest()
+                : null;
+    }
+
+    private static HttpServletResponse currentResponse() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getResponse()
+                : null;
+    }
+}
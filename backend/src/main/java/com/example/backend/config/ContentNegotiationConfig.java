@@ -0,0 +1,58 @@
+package com.example.backend.config;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Binary response formats for service-to-service callers, selected with {@code Accept}:
+ * application/x-jackson-smile, application/cbor and application/x-protobuf.
+ *
+ * JSON stays first in the converter list so it remains the default for browsers and
+ * clients that send no (or a wildcard) Accept header.
+ */
+@Configuration
+public class ContentNegotiationConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    public ContentNegotiationConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Replace Spring's classpath-detected defaults with ones sharing the application's Jackson setup
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+                || converter instanceof MappingJackson2CborHttpMessageConverter);
+
+        int json = 0;
+        while (json < converters.size() && !(converters.get(json) instanceof MappingJackson2HttpMessageConverter)) {
+            json++;
+        }
+        int position = Math.min(json + 1, converters.size());
+
+        converters.addAll(position, List.of(
+                new MappingJackson2SmileHttpMessageConverter(binaryObjectMapperBuilder().factory(new SmileFactory()).build()),
+                new MappingJackson2CborHttpMessageConverter(binaryObjectMapperBuilder().factory(new CBORFactory()).build()),
+                new UserProtobufHttpMessageConverter()
+        ));
+    }
+
+    /**
+     * Binary formats carry dates as numeric timestamps rather than ISO strings.
+     */
+    private Jackson2ObjectMapperBuilder binaryObjectMapperBuilder() {
+        return objectMapperBuilder.getObject().featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
@@ -1,19 +1,21 @@
 package com.example.backend.config;
 
-import io.github.cdimascio.dotenv.Dotenv;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
- * Load CORS config using .env variables.
+ * Allows the frontend origin ({@code FRONTEND_ORIGIN}) to call the API.
  */
 @Configuration
 public class CorsConfig {
 
-    private final Dotenv dotenv = Dotenv.load();
-    private final String frontendOrigin = dotenv.get("FRONTEND_ORIGIN");
+    private final String frontendOrigin;
+
+    public CorsConfig(AppProperties properties) {
+        this.frontendOrigin = properties.cors().frontendOrigin();
+    }
 
     @Bean
     public WebMvcConfigurer corsConfigurer() {
@@ -24,6 +26,7 @@ public class CorsConfig {
                         .allowedOrigins(frontendOrigin)
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                         .allowedHeaders("*")
+                        .exposedHeaders(CausalSessionManager.HEADER)
                         .allowCredentials(true);
             }
         };
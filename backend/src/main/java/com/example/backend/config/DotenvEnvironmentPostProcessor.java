@@ -0,0 +1,44 @@
+package com.example.backend.config;
+
+import io.github.cdimascio.dotenv.Dotenv;
+import io.github.cdimascio.dotenv.DotenvEntry;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.env.SystemEnvironmentPropertySource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads {@code .env} from the working directory once, before anything is bound, and adds its
+ * variables right after the real environment: a variable set in the process wins over the file,
+ * as with dotenv itself. A missing file is fine (containers pass everything as variables).
+ */
+public class DotenvEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    public static final String PROPERTY_SOURCE_NAME = "dotenv";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
+        Map<String, Object> variables = new LinkedHashMap<>();
+        for (DotenvEntry entry : dotenv.entries(Dotenv.Filter.DECLARED_IN_ENV_FILE)) {
+            variables.put(entry.getKey(), entry.getValue());
+        }
+        if (variables.isEmpty()) {
+            return;
+        }
+
+        // Same lookup rules as real environment variables
+        SystemEnvironmentPropertySource source = new SystemEnvironmentPropertySource(PROPERTY_SOURCE_NAME, variables);
+        MutablePropertySources sources = environment.getPropertySources();
+        if (sources.contains(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME)) {
+            sources.addAfter(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME, source);
+        } else {
+            sources.addLast(source);
+        }
+    }
+}
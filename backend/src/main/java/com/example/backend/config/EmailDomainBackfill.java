@@ -0,0 +1,67 @@
+package com.example.backend.config;
+
+import com.example.backend.model.User;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.List;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Stores {@code emailDomain} on users written before it was derived by {@code UserCodec}, so the
+ * email-domain filter of the listing also finds them.
+ *
+ * Runs once per database: completion is recorded in the {@code migrations} collection, and later
+ * starts skip the (unindexed) update. Like index creation, a failure is logged and retried on the
+ * next start rather than stopping the application.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class EmailDomainBackfill implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailDomainBackfill.class);
+
+    static final String MIGRATIONS = "migrations";
+    static final String MIGRATION_ID = "users-email-domain";
+
+    // Lower-cased text after the last @, computed by the server
+    private static final List<Document> SET_EMAIL_DOMAIN = List.of(new Document("$set", new Document("emailDomain",
+            new Document("$toLower", new Document("$arrayElemAt",
+                    List.of(new Document("$split", List.of("$email", "@")), -1))))));
+
+    private final MongoTemplate mongoTemplate;
+
+    public EmailDomainBackfill(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            if (mongoTemplate.getCollection(MIGRATIONS).find(Filters.eq("_id", MIGRATION_ID)).first() != null) {
+                return;
+            }
+            UpdateResult result = mongoTemplate.getCollection(mongoTemplate.getCollectionName(User.class)).updateMany(
+                    Filters.and(Filters.exists("emailDomain", false), Filters.regex("email", "@.")),
+                    SET_EMAIL_DOMAIN);
+            mongoTemplate.getCollection(MIGRATIONS).updateOne(Filters.eq("_id", MIGRATION_ID),
+                    Updates.set("completedAt", new Date()), new UpdateOptions().upsert(true));
+            logger.info("Backfilled user email domains {}", kv("updated", result.getModifiedCount()));
+        } catch (RuntimeException e) {
+            logger.warn("Could not backfill user email domains", e);
+        }
+    }
+}
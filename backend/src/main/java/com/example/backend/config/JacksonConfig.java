@@ -0,0 +1,32 @@
+package com.example.backend.config;
+
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Parser limits for request bodies. Jackson's defaults (20M-character strings, 1000 nesting levels)
+ * allow a small body to still cost far more to parse than any legitimate request here.
+ * Applies to every mapper built from Spring's builder, including the Smile and CBOR ones.
+ */
+@Configuration
+public class JacksonConfig {
+
+    private final AppProperties.Json properties;
+
+    public JacksonConfig(AppProperties properties) {
+        this.properties = properties.json();
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer streamReadConstraints() {
+        StreamReadConstraints constraints = StreamReadConstraints.builder()
+                .maxStringLength(properties.maxStringLength())
+                .maxNestingDepth(properties.maxNestingDepth())
+                .maxNameLength(1024)
+                .maxNumberLength(64)
+                .build();
+        return builder -> builder.postConfigurer(mapper -> mapper.getFactory().setStreamReadConstraints(constraints));
+    }
+}
@@ -1,26 +1,57 @@
 package com.example.backend.config;
 
+import com.example.backend.health.MongoPoolMonitor;
+import com.example.backend.repository.UserCodec;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadPreference;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
-import io.github.cdimascio.dotenv.Dotenv;
+import org.bson.codecs.configuration.CodecRegistries;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.core.MongoTemplate;
 
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 public class MongoConfig {
 
-    private final Dotenv dotenv = Dotenv.load();
-    private final String mongoUri = dotenv.get("MONGO_URI");
-    private final String dbName = dotenv.get("DB_NAME");
+    private final AppProperties.Mongo properties;
+    private final MongoPoolMonitor poolMonitor;
+
+    public MongoConfig(AppProperties properties, MongoPoolMonitor poolMonitor) {
+        this.properties = properties.mongo();
+        this.poolMonitor = poolMonitor;
+    }
 
+    /**
+     * The hand-written {@link UserCodec} is registered ahead of the driver defaults,
+     * so collections opened for {@code User} encode and decode without reflection.
+     * Pool events feed {@link MongoPoolMonitor} for the saturation health check.
+     */
     @Bean
     public MongoClient mongoClient() {
-        return MongoClients.create(mongoUri);
+        return MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(properties.uri()))
+                .applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(poolMonitor))
+                .codecRegistry(CodecRegistries.fromRegistries(
+                        CodecRegistries.fromCodecs(new UserCodec()),
+                        MongoClientSettings.getDefaultCodecRegistry()))
+                .build());
     }
 
     @Bean
     public MongoTemplate mongoTemplate() {
-        return new MongoTemplate(mongoClient(), dbName);
+        return new MongoTemplate(mongoClient(), properties.database());
+    }
+
+    /**
+     * Read preference for read-mostly user queries (listing and lookups).
+     * Falls back to the primary when no secondary is fresh enough.
+     */
+    @Bean
+    public ReadPreference userReadPreference() {
+        return ReadPreference.secondaryPreferred(properties.readMaxStaleness().toSeconds(), TimeUnit.SECONDS);
     }
 }
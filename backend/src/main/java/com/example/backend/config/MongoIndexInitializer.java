@@ -0,0 +1,89 @@
+package com.example.backend.config;
+
+import com.example.backend.model.RefreshToken;
+import com.example.backend.model.User;
+import com.example.backend.repository.UserListQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Creates the indexes the application's queries rely on.
+ *
+ * Creating an index that already exists is a no-op. Failures are logged rather than fatal,
+ * so the application still starts against a database it may not alter.
+ */
+@Component
+public class MongoIndexInitializer implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(MongoIndexInitializer.class);
+
+    private static final Collation INDEX_COLLATION = Collation.of("en").strength(Collation.ComparisonLevel.secondary());
+
+    /**
+     * Collation of the case-insensitive user indexes. A query only uses them with this exact collation.
+     */
+    public static final com.mongodb.client.model.Collation CASE_INSENSITIVE = INDEX_COLLATION.toMongoCollation();
+
+    /**
+     * Case-insensitive indexes are named after their field with this suffix, e.g. {@code email_ci}.
+     */
+    public static final String CASE_INSENSITIVE_SUFFIX = "_ci";
+
+    public static final String USER_TEXT_INDEX = "users_text";
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoIndexInitializer(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        ensure(RefreshToken.class, new Index("expiresAt", Sort.Direction.ASC).expire(Duration.ZERO).named("expiresAt_ttl"));
+        ensure(RefreshToken.class, new Index("familyId", Sort.Direction.ASC));
+        ensure(RefreshToken.class, new Index("userId", Sort.Direction.ASC));
+
+        // User listing: one compound index per filter and sort shape UserListQuery plans for
+        for (List<String> keys : UserListQuery.INDEXES) {
+            if (!keys.equals(List.of("_id"))) {
+                Index index = new Index();
+                keys.forEach(key -> index.on(key, Sort.Direction.ASC));
+                ensure(User.class, index.named("list_" + String.join("_", keys)));
+            }
+        }
+
+        // User search: case-insensitive prefix ranges and free text
+        for (String field : new String[] {"email", "name"}) {
+            ensure(User.class, new Index(field, Sort.Direction.ASC)
+                    .collation(INDEX_COLLATION)
+                    .named(field + CASE_INSENSITIVE_SUFFIX));
+        }
+        ensure(User.class, TextIndexDefinition.builder()
+                .onField("name", 2F)
+                .onField("email")
+                // Names and addresses are not prose: no stemming or stop words
+                .withDefaultLanguage("none")
+                .named(USER_TEXT_INDEX)
+                .build());
+    }
+
+    private void ensure(Class<?> entity, IndexDefinition index) {
+        try {
+            mongoTemplate.indexOps(entity).ensureIndex(index);
+        } catch (RuntimeException e) {
+            logger.warn("Could not create index {} on {}", index.getIndexKeys(), entity.getSimpleName(), e);
+        }
+    }
+}
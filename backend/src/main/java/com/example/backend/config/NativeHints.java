@@ -0,0 +1,79 @@
+package com.example.backend.config;
+
+import com.example.backend.dto.TokenIntrospection;
+import com.example.backend.dto.TokenResponse;
+import com.example.backend.dto.UserChangeEvent;
+import com.example.backend.dto.UserResponse;
+import com.example.backend.dto.UserStats;
+import com.example.backend.logging.DropCountingAsyncAppender;
+import com.example.backend.logging.SamplingTurboFilter;
+import com.example.backend.model.RefreshToken;
+import com.example.backend.model.User;
+import com.example.backend.proto.UserListMessage;
+import com.example.backend.proto.UserMessage;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.stream.Stream;
+
+/**
+ * Reachability metadata for the native image (mvn -Pnative native:compile), covering what
+ * Spring AOT cannot see from the bean definitions alone. Ignored on the JVM.
+ *
+ * Request bodies and typed {@code ResponseEntity} results are registered by AOT itself; the
+ * DTOs below are the ones returned through {@code ResponseEntity<?>} or nested in maps.
+ * springdoc registers its own hints (SpringDocHints), and dotenv-java only reads the .env file
+ * from the working directory, so neither needs entries here.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHints.Registrar.class)
+@RegisterReflectionForBinding({UserResponse.class, TokenResponse.class, TokenIntrospection.class, UserStats.class,
+        UserChangeEvent.class})
+public class NativeHints {
+
+    static class Registrar implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // jjwt-api instantiates its implementation and codecs by class name
+            Stream.of(
+                    "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                    "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                    "io.jsonwebtoken.impl.DefaultJwtParser",
+                    "io.jsonwebtoken.impl.DefaultClaims",
+                    "io.jsonwebtoken.impl.DefaultHeader",
+                    "io.jsonwebtoken.impl.DefaultJwsHeader",
+                    "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+                    "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+                    "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                    "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+            ).forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+            // Build-time OpenAPI document and the Swagger UI page served with it in production
+            hints.resources().registerPattern("openapi/*");
+
+            // Logback instantiates appenders and filters named in logback-spring.xml and calls their setters
+            Stream.of(DropCountingAsyncAppender.class, SamplingTurboFilter.class)
+                    .forEach(type -> hints.reflection().registerType(type,
+                            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+            hints.reflection().registerType(TypeReference.of("net.logstash.logback.encoder.LogstashEncoder"),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+            // Mapped entities; RefreshToken is only used through MongoTemplate, which AOT does not inspect
+            hints.reflection().registerType(RefreshToken.class, MemberCategory.values());
+            hints.reflection().registerType(User.class, MemberCategory.values());
+
+            // Generated Protobuf messages resolve their field accessors reflectively
+            Stream.of(UserMessage.class, UserMessage.Builder.class, UserListMessage.class, UserListMessage.Builder.class)
+                    .forEach(type -> hints.reflection().registerType(type,
+                            MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.INVOKE_DECLARED_METHODS));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Logs the slowest bean initialisations once the application is ready, so startup regressions
+ * show up in the logs of every deploy. Reads the timeline recorded by the
+ * {@link BufferingApplicationStartup} set in {@code BackendApplication} without draining it,
+ * so {@code GET /actuator/startup} still returns the full timeline afterwards.
+ */
+@Component
+public class StartupReport {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupReport.class);
+
+    static final String BEAN_INSTANTIATION = "spring.beans.instantiate";
+
+    /**
+     * Time spent creating one bean. {@code total} includes the beans it pulled in as dependencies;
+     * {@code self} excludes every nested step and is what the report is ordered by.
+     */
+    public record BeanTiming(String bean, Duration total, Duration self) {}
+
+    private final int reportSize;
+
+    public StartupReport(AppProperties properties) {
+        this.reportSize = properties.startup().reportSize();
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        List<BeanTiming> slowest = slowestBeans(startup.getBufferedTimeline(), reportSize);
+        logger.info("Application ready {}, slowest bean initialisations follow",
+                kv("startupMs", event.getTimeTaken() == null ? null : event.getTimeTaken().toMillis()));
+        for (BeanTiming timing : slowest) {
+            logger.info("Bean initialisation {} {} {}", kv("bean", timing.bean()),
+                    kv("selfMs", timing.self().toMillis()), kv("totalMs", timing.total().toMillis()));
+        }
+    }
+
+    /**
+     * The {@code limit} bean instantiations with the highest self time in the timeline.
+     */
+    static List<BeanTiming> slowestBeans(StartupTimeline timeline, int limit) {
+        List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+        Map<Long, Duration> nested = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                nested.merge(parentId, event.getDuration(), Duration::plus);
+            }
+        }
+
+        return events.stream()
+                .filter(event -> BEAN_INSTANTIATION.equals(event.getStartupStep().getName()))
+                .map(event -> new BeanTiming(
+                        beanName(event.getStartupStep()),
+                        event.getDuration(),
+                        event.getDuration().minus(nested.getOrDefault(event.getStartupStep().getId(), Duration.ZERO))))
+                .sorted(Comparator.comparing(BeanTiming::self).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "(unnamed)";
+    }
+}
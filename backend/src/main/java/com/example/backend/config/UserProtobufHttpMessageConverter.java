@@ -0,0 +1,137 @@
+package com.example.backend.config;
+
+import com.example.backend.dto.UserResponse;
+import com.example.backend.model.User;
+import com.example.backend.proto.UserListMessage;
+import com.example.backend.proto.UserMessage;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * Writes users and user lists as Protobuf (see src/main/proto/user.proto) for
+ * {@code Accept: application/x-protobuf}. Write-only: request bodies stay JSON.
+ */
+public class UserProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public UserProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return isUserType(clazz) || Collection.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        if (isUserType(clazz)) {
+            return true;
+        }
+        if (!Collection.class.isAssignableFrom(clazz)) {
+            return false;
+        }
+        if (type instanceof ParameterizedType parameterized) {
+            return parameterized.getActualTypeArguments()[0] instanceof Class<?> element && isUserType(element);
+        }
+        // Bodies of ResponseEntity<?> arrive erased; their elements are checked when written
+        return true;
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        com.google.protobuf.MessageLite message;
+        try {
+            message = toMessage(body);
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotWritableException(e.getMessage(), e);
+        }
+        message.writeTo(outputMessage.getBody());
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    /**
+     * Maps a user, user response or collection of either to its Protobuf message.
+     */
+    public static com.google.protobuf.MessageLite toMessage(Object body) {
+        if (body instanceof Collection<?> users) {
+            UserListMessage.Builder list = UserListMessage.newBuilder();
+            for (Object user : users) {
+                list.addUsers(toUserMessage(user));
+            }
+            return list.build();
+        }
+        return toUserMessage(body);
+    }
+
+    private static UserMessage toUserMessage(Object body) {
+        if (body instanceof User user) {
+            return userMessage(user.getId(), user.getName(), user.getEmail(), user.getRole(), user.getCreated(), user.getUpdated());
+        }
+        if (body instanceof UserResponse user) {
+            return userMessage(user.getId(), user.getName(), user.getEmail(), user.getRole(), user.getCreated(), user.getUpdated());
+        }
+        throw new IllegalArgumentException("Unsupported type " + body.getClass().getName());
+    }
+
+    private static UserMessage userMessage(String id, String name, String email, String role, Date created, Date updated) {
+        // Protobuf builders reject nulls; unset fields read back as their defaults
+        UserMessage.Builder builder = UserMessage.newBuilder();
+        if (id != null) {
+            builder.setId(id);
+        }
+        if (name != null) {
+            builder.setName(name);
+        }
+        if (email != null) {
+            builder.setEmail(email);
+        }
+        if (role != null) {
+            builder.setRole(role);
+        }
+        if (created != null) {
+            builder.setCreated(created.getTime());
+        }
+        if (updated != null) {
+            builder.setUpdated(updated.getTime());
+        }
+        return builder.build();
+    }
+
+    private static boolean isUserType(Class<?> clazz) {
+        return clazz == User.class || clazz == UserResponse.class;
+    }
+}
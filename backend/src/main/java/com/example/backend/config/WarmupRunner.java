@@ -0,0 +1,237 @@
+package com.example.backend.config;
+
+import com.example.backend.dto.UserResponse;
+import com.example.backend.security.JwtUtil;
+import com.example.backend.security.RateLimitFilter;
+import com.example.backend.security.TokenVersionCache;
+import com.example.backend.web.ConcurrencyLimitFilter;
+import com.example.backend.web.SerializedResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Warms the JIT before the instance takes traffic.
+ *
+ * Runs last among the application runners, so readiness stays {@code REFUSING_TRAFFIC} until
+ * it is done: Spring Boot only switches to {@code ACCEPTING_TRAFFIC} once every runner has
+ * returned. Synthetic requests go over loopback through the real filter chain (JWT verification,
+ * limits, content negotiation, controllers, error handling) and encode a warm-up user in every
+ * response format, for {@code WARMUP_ITERATIONS} rounds or {@code WARMUP_MAX_DURATION_MS},
+ * whichever ends first.
+ *
+ * Nothing is written: requests use a fresh user id that has no document, unknown emails,
+ * invalid bodies and invalid tokens, and the one data read is the first page of users.
+ * All requests come from {@value #LOOPBACK}, so that client's sign-in/sign-up rate limits, and
+ * those of the round's emails, are cleared after every round; otherwise they would turn the
+ * credential paths into 429s after a few rounds. The port already accepts connections, so other
+ * clients' limits are left alone. Afterwards the state those requests leave behind (rate and
+ * concurrency limits, caches) is reset.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    // Address the warm-up connects from, and so its rate limit key
+    private static final String LOOPBACK = "127.0.0.1";
+
+    // Sign-in of an unknown email costs a full BCrypt hash; a few are enough to compile it
+    private static final int SIGNIN_EVERY = 25;
+
+    private static final List<String> ACCEPT = SerializedResponseCache.FORMATS.stream()
+            .map(MediaType::toString)
+            .toList();
+
+    private final ApplicationContext context;
+    private final AppProperties.Warmup properties;
+    private final JwtUtil jwtUtil;
+    private final SerializedResponseCache responseCache;
+    private final RateLimitFilter rateLimitFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
+    private final TokenVersionCache tokenVersionCache;
+    private final Timer warmupTimer;
+
+    public WarmupRunner(ApplicationContext context, AppProperties properties, JwtUtil jwtUtil,
+                        SerializedResponseCache responseCache, RateLimitFilter rateLimitFilter,
+                        ConcurrencyLimitFilter concurrencyLimitFilter, TokenVersionCache tokenVersionCache,
+                        MeterRegistry meterRegistry) {
+        this.context = context;
+        this.properties = properties.warmup();
+        this.jwtUtil = jwtUtil;
+        this.responseCache = responseCache;
+        this.rateLimitFilter = rateLimitFilter;
+        this.concurrencyLimitFilter = concurrencyLimitFilter;
+        this.tokenVersionCache = tokenVersionCache;
+        this.warmupTimer = Timer.builder("application.warmup")
+                .description("Time spent warming up before accepting traffic")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        // Without a web server (e.g. MockMvc tests) there is nothing to warm over HTTP
+        if (!properties.enabled() || !(context instanceof WebServerApplicationContext web) || web.getWebServer() == null) {
+            return;
+        }
+        AvailabilityChangeEvent.publish(context, ReadinessState.REFUSING_TRAFFIC);
+
+        long start = System.nanoTime();
+        Result result = warmUp(web.getWebServer().getPort());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        reset();
+
+        warmupTimer.record(elapsed);
+        logger.info("Warm-up finished {} {} {} {}", kv("durationMs", elapsed.toMillis()),
+                kv("iterations", result.iterations()), kv("requests", result.requests()), kv("failures", result.failures()));
+    }
+
+    private record Result(int iterations, int requests, int failures) {}
+
+    private Result warmUp(int port) throws InterruptedException {
+        String base = "http://" + LOOPBACK + ":" + port;
+        String userId = new ObjectId().toHexString();
+        String token = jwtUtil.generateToken(userId, "warmup@warmup.invalid", "USER");
+        UserResponse user = new UserResponse(userId, "Warm-up User", "warmup@warmup.invalid", "USER", new Date(), new Date());
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        long deadline = System.nanoTime() + properties.maxDuration().toNanos();
+        AtomicInteger remaining = new AtomicInteger(properties.iterations());
+        AtomicInteger iterations = new AtomicInteger();
+        AtomicInteger requests = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        int workers = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        try (ExecutorService executor = Executors.newFixedThreadPool(workers)) {
+            List<Future<?>> running = new ArrayList<>();
+            for (int w = 0; w < workers; w++) {
+                running.add(executor.submit(() -> {
+                    int round;
+                    while (System.nanoTime() < deadline && (round = remaining.getAndDecrement()) > 0) {
+                        for (HttpRequest request : round(base, token, userId, round)) {
+                            requests.incrementAndGet();
+                            try {
+                                // 4xx are expected; 5xx means a dependency (e.g. MongoDB) is not there yet
+                                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() >= 500) {
+                                    failures.incrementAndGet();
+                                }
+                            } catch (IOException e) {
+                                failures.incrementAndGet();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                return;
+                            }
+                        }
+                        encode(user, userId);
+                        rateLimitFilter.reset(LOOPBACK, List.of(signupEmail(round), signinEmail(round)));
+                        iterations.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> worker : running) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    logger.warn("Warm-up worker failed", e.getCause());
+                }
+            }
+        }
+        return new Result(iterations.get(), requests.get(), failures.get());
+    }
+
+    /**
+     * One round of side-effect-free requests.
+     */
+    private List<HttpRequest> round(String base, String token, String userId, int round) {
+        String accept = ACCEPT.get(round % ACCEPT.size());
+        List<HttpRequest> requests = new ArrayList<>(List.of(
+                get(base + "/.well-known/jwks.json").build(),
+                // Verified token, token version lookup, then 404 from the service layer
+                get(base + "/api/users/" + userId).header("Authorization", "Bearer " + token).header("Accept", accept).build(),
+                get(base + "/api/users?page=0&limit=10").header("Authorization", "Bearer " + token).header("Accept", accept).build(),
+                get(base + "/api/users").build(),
+                get(base + "/api/users").header("Authorization", "Bearer not.a.token").build(),
+                // Fails validation before reaching the database
+                post(base + "/auth/signup", "{\"name\":\"\",\"email\":\"" + signupEmail(round) + "\",\"password\":\"\"}")
+        ));
+        if (round % SIGNIN_EVERY == 0) {
+            requests.add(post(base + "/auth/signin",
+                    "{\"email\":\"" + signinEmail(round) + "\",\"password\":\"Password123\"}"));
+        }
+        return requests;
+    }
+
+    private static String signupEmail(int round) {
+        return "not-an-email-" + round;
+    }
+
+    private static String signinEmail(int round) {
+        return "warmup-" + round + "@warmup.invalid";
+    }
+
+    private static HttpRequest.Builder get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).timeout(REQUEST_TIMEOUT).GET();
+    }
+
+    private static HttpRequest post(String uri, String json) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    // The cached-body path: the warm-up user through every message converter
+    private void encode(UserResponse user, String userId) {
+        for (MediaType format : SerializedResponseCache.FORMATS) {
+            try {
+                responseCache.get(userId, 0, format, user);
+            } catch (IOException e) {
+                logger.debug("Warm-up encoding failed {}", kv("format", format), e);
+            }
+        }
+        responseCache.invalidate(userId);
+    }
+
+    private void reset() {
+        rateLimitFilter.reset(LOOPBACK, List.of());
+        concurrencyLimitFilter.reset();
+        tokenVersionCache.clear();
+        responseCache.clear();
+    }
+}
@@ -1,11 +1,14 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.RefreshRequest;
 import com.example.backend.dto.SignInRequest;
+import com.example.backend.dto.TokenResponse;
 import com.example.backend.dto.UserRequest;
 import com.example.backend.dto.UserResponse;
-import com.example.backend.security.JwtUtil;
+import com.example.backend.security.AccessTokenVerifier;
 import com.example.backend.security.TokenBlacklistService;
 import com.example.backend.service.AuthService;
+import com.example.backend.service.RefreshTokenService;
 import com.example.backend.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,19 +17,23 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.example.backend.logging.LogMarkers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
 import java.util.Map;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
 /**
  * Handles authentication endpoints including:
  * - User sign-up (/signup)
  * - User sign-in (/signin)
+ * - Access token refresh (/refresh)
  * - User sign-out (/signout)
+ * - Sign-out from every session (/signout-all)
  */
 @RestController
 @RequestMapping("/auth")
@@ -37,7 +44,6 @@ public class AuthController {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
 
-    private final JwtUtil jwtUtil;
     private final TokenBlacklistService tokenBlacklistService;
 
     @Autowired
@@ -46,6 +52,12 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private AccessTokenVerifier tokenVerifier;
+
     /**
      * Registers a new user.
      *
@@ -58,11 +70,11 @@ public class AuthController {
     )
     @PostMapping("/signup")
     public ResponseEntity<UserResponse> createUser(@Valid @RequestBody UserRequest request) {
-        logger.info("Attempting to create user with email: {}", request.getEmail());
+        logger.debug("Attempting sign-up");
 
         UserResponse response = authService.createUser(request);
 
-        logger.info("User created successfully with ID: {}", response.getId());
+        logger.info("User created {}", kv("userId", response.getId()));
         return ResponseEntity.status(201).body(response);
     }
 
@@ -70,38 +82,54 @@ public class AuthController {
      * Authenticates a user and returns a JWT token.
      *
      * @param request the sign-in request payload
-     * @return a JWT token if authentication is successful
+     * @return a short-lived JWT and a refresh token if authentication is successful
      */
     @Operation(
             summary = "User Sign-in",
-            description = "Authenticate a user with email and password to receive a JWT token."
+            description = "Authenticate a user with email and password to receive a short-lived JWT and a refresh token."
     )
     @PostMapping("/signin")
-    public ResponseEntity<?> signIn(@Valid @RequestBody SignInRequest request) {
-        logger.info("Attempting sign-in for email: {}", request.getEmail());
+    public ResponseEntity<TokenResponse> signIn(@Valid @RequestBody SignInRequest request) {
+        logger.debug("Attempting sign-in");
 
-        String token = authService.authenticate(request.getEmail(), request.getPassword());
+        TokenResponse response = authService.authenticate(request.getEmail(), request.getPassword());
 
-        logger.info("Sign-in successful for email: {}", request.getEmail());
+        logger.info(LogMarkers.SAMPLED, "Sign-in successful");
+        return ResponseEntity.ok(response);
+    }
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("token", token);
+    /**
+     * Exchanges a refresh token for a new JWT and a new refresh token.
+     * The presented refresh token cannot be used again.
+     *
+     * @param request the refresh request payload
+     * @return a new JWT and refresh token
+     */
+    @Operation(
+            summary = "Refresh Token",
+            description = "Exchange a refresh token for a new JWT and refresh token. Reusing a refresh token revokes its whole session."
+    )
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody RefreshRequest request) {
+        TokenResponse response = authService.refresh(request.getRefreshToken());
 
+        logger.info(LogMarkers.SAMPLED, "Token refreshed");
         return ResponseEntity.ok(response);
     }
 
     /**
-     * Invalidates a user's JWT token (sign-out).
+     * Invalidates a user's JWT token (sign-out), and the refresh token sent with it, if any.
      *
      * @param request the HTTP request containing the Authorization header
+     * @param body    optional payload carrying the refresh token to revoke
      * @return response indicating success or failure of sign-out
      */
     @Operation(
             summary = "User Sign-out",
-            description = "Sign out the current user and invalidate their JWT token."
+            description = "Sign out the current user and invalidate their JWT token and, if sent, their refresh token."
     )
     @PostMapping("/signout")
-    public ResponseEntity<?> signOut(HttpServletRequest request) {
+    public ResponseEntity<?> signOut(HttpServletRequest request, @RequestBody(required = false) RefreshRequest body) {
         String authHeader = request.getHeader("Authorization");
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -111,19 +139,62 @@ public class AuthController {
 
         String token = authHeader.substring(7);
 
-        if (!jwtUtil.validateToken(token)) {
+        AccessTokenVerifier.Verification verification = tokenVerifier.verify(token);
+        if (verification.status() == AccessTokenVerifier.Status.INVALID) {
             logger.warn("Sign-out failed: Invalid or expired token.");
             return ResponseEntity.status(401).body(Map.of("message", "Unauthorized"));
         }
 
-        if (tokenBlacklistService.isTokenBlacklisted(token)) {
-            logger.warn("Sign-out failed: Token already blacklisted.");
+        if (verification.status() == AccessTokenVerifier.Status.REVOKED) {
+            logger.warn("Sign-out failed: Token already revoked.");
             return ResponseEntity.status(401).body(Map.of("message", "Token invalid"));
         }
 
-        tokenBlacklistService.blacklistToken(token);
+        // Only needs remembering until the token would expire on its own
+        tokenBlacklistService.blacklistToken(token, verification.claims().getExpiration());
+        if (body != null && body.getRefreshToken() != null) {
+            refreshTokenService.revoke(body.getRefreshToken());
+        }
         logger.info("Token successfully invalidated and user signed out.");
 
         return ResponseEntity.ok(Map.of("message", "Signed out successfully."));
     }
+
+    /**
+     * Revokes every access and refresh token of the current user, on all devices.
+     *
+     * @param request the HTTP request containing the Authorization header
+     * @return response indicating success or failure
+     */
+    @Operation(
+            summary = "Sign-out Everywhere",
+            description = "Invalidate every JWT and refresh token issued to the current user."
+    )
+    @PostMapping("/signout-all")
+    public ResponseEntity<?> signOutAll(HttpServletRequest request) {
+        String authHeader = request.getHeader("Authorization");
+
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            logger.warn("Sign-out everywhere failed: Missing or invalid Authorization header.");
+            return ResponseEntity.status(401).body(Map.of("message", "Unauthorized"));
+        }
+
+        String token = authHeader.substring(7);
+        AccessTokenVerifier.Verification verification = tokenVerifier.verify(token);
+        if (verification.status() == AccessTokenVerifier.Status.INVALID) {
+            logger.warn("Sign-out everywhere failed: Invalid or expired token.");
+            return ResponseEntity.status(401).body(Map.of("message", "Unauthorized"));
+        }
+
+        if (verification.status() == AccessTokenVerifier.Status.REVOKED) {
+            logger.warn("Sign-out everywhere failed: Token already revoked.");
+            return ResponseEntity.status(401).body(Map.of("message", "Token invalid"));
+        }
+
+        String userId = verification.claims().getSubject();
+        authService.signOutEverywhere(userId);
+        logger.info("User signed out everywhere {}", kv("userId", userId));
+
+        return ResponseEntity.ok(Map.of("message", "Signed out everywhere."));
+    }
 }
@@ -0,0 +1,56 @@
+package com.example.backend.controller;
+
+import com.example.backend.dto.IntrospectionRequest;
+import com.example.backend.dto.TokenIntrospection;
+import com.example.backend.security.AccessTokenVerifier;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.example.backend.logging.LogMarkers;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Internal endpoints for other services, authenticated by API key.
+ */
+@RestController
+@RequestMapping("/internal/tokens")
+@RequiredArgsConstructor
+@Tag(name = "Internal", description = "Service-to-service endpoints (X-Internal-Api-Key)")
+public class IntrospectionController {
+
+    private static final Logger logger = LoggerFactory.getLogger(IntrospectionController.class);
+
+    private final AccessTokenVerifier tokenVerifier;
+
+    /**
+     * Validates a batch of access tokens exactly as this backend would on a request:
+     * signature, expiry, sign-out and sign-out everywhere.
+     *
+     * @param request the tokens to check
+     * @return one result per token, in request order
+     */
+    @Operation(
+            summary = "Introspect Tokens",
+            description = "Check up to 100 access tokens in one call. Active tokens come back with their claims."
+    )
+    @PostMapping("/introspect")
+    public ResponseEntity<Map<String, List<TokenIntrospection>>> introspect(@Valid @RequestBody IntrospectionRequest request) {
+        List<TokenIntrospection> results = tokenVerifier.verifyAll(request.getTokens()).stream()
+                .map(verification -> verification.isValid()
+                        ? TokenIntrospection.active(verification.claims())
+                        : TokenIntrospection.inactive())
+                .toList();
+
+        logger.info(LogMarkers.SAMPLED, "Tokens introspected {}", kv("count", results.size()));
+        return ResponseEntity.ok(Map.of("results", results));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.backend.controller;
+
+import com.example.backend.security.JwtKeyRing;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the token verification keys as a JWK set (RFC 7517), so other services
+ * can verify access tokens without calling this backend or sharing a secret.
+ *
+ * The key ring is fixed for the life of the process, so the document is encoded once.
+ * Consumers may cache it for {@value #MAX_AGE_SECONDS} seconds; a new key must be published
+ * at least that long before it becomes the active one.
+ */
+@RestController
+@Tag(name = "Authentication")
+public class JwksController {
+
+    static final long MAX_AGE_SECONDS = 300;
+
+    private static final String CACHE_CONTROL =
+            CacheControl.maxAge(MAX_AGE_SECONDS, TimeUnit.SECONDS).cachePublic().getHeaderValue();
+
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final byte[] body;
+    private final String eTag;
+
+    public JwksController(JwtKeyRing keyRing, ObjectMapper objectMapper) throws JsonProcessingException {
+        List<Map<String, String>> keys = new ArrayList<>();
+        keyRing.getVerificationKeys().forEach((kid, key) -> keys.add(jwk(kid, key)));
+        this.body = objectMapper.writeValueAsBytes(Map.of("keys", keys));
+        this.eTag = "\"" + HexFormat.of().formatHex(sha256(body), 0, 16) + "\"";
+    }
+
+    @Operation(
+            summary = "JSON Web Key Set",
+            description = "Public keys that verify access tokens, selected by the token's kid header."
+    )
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> jwks(WebRequest webRequest, HttpServletResponse response) {
+        // Also sent with 304s, which renew the consumer's cached copy
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private static Map<String, String> jwk(String kid, RSAPublicKey key) {
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "RSA");
+        jwk.put("use", "sig");
+        jwk.put("alg", "RS256");
+        jwk.put("kid", kid);
+        jwk.put("n", unsigned(key.getModulus()));
+        jwk.put("e", unsigned(key.getPublicExponent()));
+        return jwk;
+    }
+
+    // Base64url of the big-endian value without the sign byte
+    private static String unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return BASE64URL.encodeToString(bytes);
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
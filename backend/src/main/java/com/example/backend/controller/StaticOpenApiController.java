@@ -0,0 +1,100 @@
+package com.example.backend.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the OpenAPI document generated at build time, and a Swagger UI page reading it,
+ * when runtime generation is switched off ({@code springdoc.api-docs.enabled=false}, as in the
+ * prod profile). Same paths as springdoc, so links and the public-path rules stay valid.
+ *
+ * Both bodies are read from the jar once. A jar built without {@code -Popenapi} has no document
+ * and answers 404.
+ */
+@RestController
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", havingValue = "false")
+public class StaticOpenApiController {
+
+    static final String DOCUMENT = "openapi/openapi.json";
+    static final String UI_PAGE = "openapi/swagger-ui.html";
+
+    static final long MAX_AGE_SECONDS = 300;
+
+    private static final Logger logger = LoggerFactory.getLogger(StaticOpenApiController.class);
+
+    private static final String CACHE_CONTROL =
+            CacheControl.maxAge(MAX_AGE_SECONDS, TimeUnit.SECONDS).cachePublic().getHeaderValue();
+
+    private record Body(byte[] bytes, String eTag) {}
+
+    private final Body document;
+    private final Body uiPage;
+
+    public StaticOpenApiController() throws IOException {
+        this.document = read(DOCUMENT);
+        this.uiPage = read(UI_PAGE);
+        if (document == null) {
+            logger.warn("No build-time OpenAPI document in the jar (build with -Popenapi); /v3/api-docs will answer 404");
+        }
+    }
+
+    @GetMapping(value = "/v3/api-docs", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> apiDocs(WebRequest webRequest, HttpServletResponse response) {
+        return serve(document, MediaType.APPLICATION_JSON, webRequest, response);
+    }
+
+    @GetMapping(value = {"/swagger-ui.html", "/swagger-ui/index.html"}, produces = MediaType.TEXT_HTML_VALUE)
+    public ResponseEntity<byte[]> swaggerUi(WebRequest webRequest, HttpServletResponse response) {
+        return serve(uiPage, MediaType.TEXT_HTML, webRequest, response);
+    }
+
+    private static ResponseEntity<byte[]> serve(Body body, MediaType type, WebRequest webRequest, HttpServletResponse response) {
+        if (body == null) {
+            return ResponseEntity.notFound().build();
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (webRequest.checkNotModified(body.eTag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(body.eTag())
+                .contentType(type)
+                .body(body.bytes());
+    }
+
+    private static Body read(String path) throws IOException {
+        ClassPathResource resource = new ClassPathResource(path);
+        if (!resource.exists()) {
+            return null;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            byte[] bytes = in.readAllBytes();
+            return new Body(bytes, "\"" + HexFormat.of().formatHex(sha256(bytes), 0, 16) + "\"");
+        }
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
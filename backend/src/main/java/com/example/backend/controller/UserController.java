@@ -1,21 +1,48 @@
 package com.example.backend.controller;
 
+import com.example.backend.config.AppProperties;
 import com.example.backend.model.User;
+import com.example.backend.dto.UserResponse;
+import com.example.backend.dto.UserStats;
+import com.example.backend.repository.UserListQuery;
 import com.example.backend.dto.UserUpdateRequest;
+import com.example.backend.exception.StreamUnavailableException;
 import com.example.backend.exception.UserNotFoundException;
 import com.example.backend.service.UserService;
+import com.example.backend.service.UserStatsService;
+import com.example.backend.web.SerializedResponseCache;
+import com.example.backend.web.UserChangeStream;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.example.backend.logging.LogMarkers;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
 
 /**
  * Controller to handle user-related operations such as:
@@ -23,6 +50,10 @@ import java.util.Optional;
  * - Retrieving a user by ID
  * - Updating a user
  * - Deleting a user
+ * - Exporting all users (admin only)
+ * - Searching users by prefix or free text (admin only)
+ * - User statistics (admin only)
+ * - Streaming user changes as server-sent events
  */
 @RestController
 @RequestMapping("/api/users")
@@ -32,41 +63,262 @@ public class UserController {
 
     private static final Logger logger = LoggerFactory.getLogger(UserController.class);
 
+    // Cacheable by the client only, and always revalidated with the ETag
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    // Rollups change with every signup; a dashboard may show them slightly behind
+    private static final Duration STATS_MAX_AGE = Duration.ofSeconds(30);
+
+    static final int SEARCH_MIN_LENGTH = 2;
+    static final int SEARCH_MAX_LENGTH = 64;
+
+    // Searches are literal; refusing pattern syntax keeps clients from expecting regex semantics
+    private static final Pattern REGEX_SYNTAX = Pattern.compile("[\\^$*?()\\[\\]{}|]");
+
     private final UserService userService;
+    private final UserStatsService userStatsService;
+    private final ObjectMapper objectMapper;
+    private final SerializedResponseCache responseCache;
+    private final UserChangeStream userChangeStream;
+    private final AppProperties properties;
 
     /**
-     * Retrieves a paginated list of users.
+     * Retrieves a paginated list of users, optionally filtered and sorted.
+     * Responds 304 when the client's cached page (If-None-Match / If-Modified-Since) is still current.
+     * JSON pages are transcoded straight from the stored documents; other formats go through {@link User}.
+     * Filter and sort combinations no index answers in order are refused (see {@link UserListQuery}).
      *
-     * @param page  Page number (starting from 0).
-     * @param limit Number of users per page.
-     * @return List of users or 500 on failure.
+     * @param page        Page number (starting from 0).
+     * @param limit       Number of users per page, capped by the configured maximum.
+     * @param role        Only users with this role.
+     * @param emailDomain Only users whose email is at this domain.
+     * @param createdFrom Only users created at or after this instant (ISO-8601); likewise the other bounds,
+     *                    {@code To} bounds being exclusive.
+     * @param sort        {@code id}, {@code created} or {@code updated}, prefixed with {@code -} for descending.
+     * @return List of users, 304 if unchanged, 400 for an unsupported query or invalid paging, or 500 on failure.
      */
     @Operation(
             summary = "List Users",
-            description = "Retrieve a paginated list of all users."
+            description = "Retrieve a paginated list of users, filtered by role, email domain or a created/updated range, "
+                    + "sorted by id, created or updated."
     )
     @GetMapping
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public ResponseEntity<List<User>> listUsers(
+    public ResponseEntity<?> listUsers(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "100") int limit
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String emailDomain,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant updatedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant updatedTo,
+            @RequestParam(required = false) String sort,
+            ServletWebRequest webRequest
     ) {
-        logger.info("Fetching users - page: {}, limit: {}", page, limit);
+        logger.debug("Fetching users {} {} {}", kv("page", page), kv("limit", limit), kv("sort", sort));
+        if (page < 0) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Page must not be negative"));
+        }
+        if (limit < 1) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Limit must be positive"));
+        }
+        int size = Math.min(limit, properties.userList().maxLimit());
+        if ((long) page * size > Integer.MAX_VALUE) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Page out of range"));
+        }
+        UserListQuery query = UserListQuery.plan(new UserListQuery.Criteria(blankToNull(role), blankToNull(emailDomain),
+                createdFrom, createdTo, updatedFrom, updatedTo), blankToNull(sort));
+        MediaType format = SerializedResponseCache.negotiate(webRequest);
         try {
-            List<User> users = userService.getUsers(page, limit);
-            logger.info("Fetched {} users", users.size());
-            return ResponseEntity.ok(users);
+            if (isConditional(webRequest)) {
+                List<User> versions = userService.getUserVersions(query, page, size);
+                revalidate(webRequest);
+                if (webRequest.checkNotModified(UserETags.ofPage(page, size, versions, format), UserETags.lastModified(versions))) {
+                    logger.debug("Users page not modified {} {}", kv("page", page), kv("limit", size));
+                    return null;
+                }
+            }
+
+            if (MediaType.APPLICATION_JSON.equals(format)) {
+                // Buffered so the ETag, computed while transcoding, can precede the body
+                ByteArrayOutputStream body = new ByteArrayOutputStream(8192);
+                List<User> stamps;
+                try (JsonGenerator generator = objectMapper.createGenerator(body, JsonEncoding.UTF8)) {
+                    stamps = userService.writeUsersJson(query, page, size, generator);
+                }
+                logger.info(LogMarkers.SAMPLED, "Fetched users {}", kv("count", stamps.size()));
+                return cacheable(UserETags.ofPage(page, size, stamps, format), UserETags.lastModified(stamps))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body.toByteArray());
+            }
+
+            List<User> users = userService.getUsers(query, page, size);
+            logger.info(LogMarkers.SAMPLED, "Fetched users {}", kv("count", users.size()));
+            return cacheable(UserETags.ofPage(page, size, users, format), UserETags.lastModified(users))
+                    .body(users.stream().map(UserResponse::of).toList());
         } catch (Exception e) {
-            logger.error("Error fetching users: {}", e.getMessage(), e);
+            logger.error("Error fetching users {} {}", kv("page", page), kv("limit", size), e);
             return ResponseEntity.status(500).build();
         }
     }
 
+    /**
+     * Streams every user as a JSON array, transcoded straight from the stored documents.
+     * Only profile fields are read. A failure mid-stream leaves the array unterminated rather than
+     * producing a complete-looking but truncated export.
+     */
+    @Operation(
+            summary = "Export Users",
+            description = "Stream all users as a JSON array. Admin only."
+    )
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportUsers(HttpServletResponse response) throws IOException {
+        logger.debug("Exporting users");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+
+        JsonGenerator generator = objectMapper.createGenerator(response.getOutputStream(), JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        try {
+            long count = userService.exportUsersJson(generator);
+            generator.close();
+            logger.info("Exported users {}", kv("count", count));
+        } catch (Exception e) {
+            logger.error("Error exporting users", e);
+            if (!response.isCommitted()) {
+                response.reset();
+                response.sendError(500);
+            }
+        }
+    }
+
+    /**
+     * Searches users by email or name prefix (case-insensitive) and by free text over both,
+     * most relevant first. Served from indexes only: the query is taken literally, and pattern
+     * syntax is refused rather than run as a scan.
+     *
+     * @param q     Fragment to search for, 2 to 64 characters.
+     * @param mode  {@code prefix}, {@code text}, or {@code auto} for prefix matches followed by text matches.
+     * @param limit Maximum number of results, capped by the configured maximum.
+     * @return Matching users, 400 for an invalid query, or 500 on failure.
+     */
+    @Operation(
+            summary = "Search Users",
+            description = "Find users by email or name prefix, or by free text. Admin only."
+    )
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> searchUsers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "auto") String mode,
+            @RequestParam(required = false) Integer limit
+    ) {
+        String query = q.strip();
+        logger.debug("Searching users {} {}", kv("mode", mode), kv("length", query.length()));
+
+        if (query.length() < SEARCH_MIN_LENGTH || query.length() > SEARCH_MAX_LENGTH) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(
+                    "Query must be " + SEARCH_MIN_LENGTH + " to " + SEARCH_MAX_LENGTH + " characters"));
+        }
+        if (REGEX_SYNTAX.matcher(query).find()) {
+            logger.warn("Pattern search refused {}", kv("mode", mode));
+            return ResponseEntity.badRequest().body(new ErrorResponse("Regular expressions are not supported"));
+        }
+        UserService.SearchMode searchMode;
+        try {
+            searchMode = UserService.SearchMode.valueOf(mode.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Mode must be auto, prefix or text"));
+        }
+        AppProperties.Search search = properties.search();
+        int size = limit == null ? search.defaultLimit() : limit;
+        if (size < 1) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Limit must be positive"));
+        }
+
+        try {
+            List<UserResponse> users = userService.searchUsers(query, searchMode, Math.min(size, search.maxLimit()));
+            logger.info(LogMarkers.SAMPLED, "Searched users {} {}", kv("mode", searchMode), kv("count", users.size()));
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .body(users);
+        } catch (Exception e) {
+            logger.error("Error searching users {}", kv("mode", searchMode), e);
+            return ResponseEntity.status(500).body(new ErrorResponse("Internal server error"));
+        }
+    }
+
+    /**
+     * User counts: the estimated total, users per role and signups per day, read from rollups
+     * maintained as users are created and deleted.
+     *
+     * @param days Days of signups, ending today (UTC), at most the configured maximum.
+     * @return Statistics, 400 for a non-positive day count, or 500 on failure.
+     */
+    @Operation(
+            summary = "User Statistics",
+            description = "Total users, users per role and signups per day. Admin only."
+    )
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> userStats(@RequestParam(defaultValue = "30") int days) {
+        if (days < 1) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Days must be positive"));
+        }
+        try {
+            UserStats stats = userStatsService.stats(days);
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.maxAge(STATS_MAX_AGE).cachePrivate())
+                    .body(stats);
+        } catch (Exception e) {
+            logger.error("Error reading user statistics", e);
+            return ResponseEntity.status(500).body(new ErrorResponse("Internal server error"));
+        }
+    }
+
+    /**
+     * Server-sent events for every user created, updated or deleted, so clients need not poll the listing.
+     * Event ids resume the stream: a client reconnecting with {@code Last-Event-ID} receives the events it
+     * missed, or a {@code reset} event when they are no longer available.
+     *
+     * @param lastEventId Id of the last event received, sent by clients when reconnecting.
+     * @return The event stream, or 503 when at the subscriber limit or change streams are unavailable.
+     */
+    @Operation(
+            summary = "Stream User Changes",
+            description = "Server-sent events of user insertions, updates and deletions, resumable with Last-Event-ID."
+    )
+    @GetMapping("/stream")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public SseEmitter streamUsers(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                  HttpServletResponse response) throws IOException {
+        try {
+            SseEmitter emitter = userChangeStream.subscribe(lastEventId);
+            // Proxies must neither cache nor buffer the stream
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+            response.setHeader("X-Accel-Buffering", "no");
+            logger.info("User stream subscribed {}", kv("resuming", lastEventId != null));
+            return emitter;
+        } catch (StreamUnavailableException e) {
+            logger.warn("User stream refused {}", kv("reason", e.getMessage()));
+            // Written directly: the client accepts text/event-stream, which no error body converter produces
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, "30");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(e.getMessage()));
+            return null;
+        }
+    }
+
     /**
      * Retrieves a user by ID.
+     * Conditional requests are validated against the update timestamp alone, without loading the user.
+     * The encoded body is cached per user version and format, and written straight to the response.
      *
      * @param id User ID.
-     * @return User object if found or appropriate error response.
+     * @return User object if found, 304 if unchanged, or appropriate error response.
      */
     @Operation(
             summary = "Get User by ID",
@@ -74,30 +326,49 @@ public class UserController {
     )
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public ResponseEntity<?> getUserById(@PathVariable String id) {
-        logger.info("Fetching user with ID: {}", id);
+    public ResponseEntity<?> getUserById(@PathVariable String id, ServletWebRequest webRequest) {
+        logger.debug("Fetching user {}", kv("userId", id));
 
         if (!id.matches("^[a-fA-F0-9]{24}$")) {
-            logger.warn("Invalid ID format: {}", id);
+            logger.warn("Invalid ID format {}", kv("userId", id));
             return ResponseEntity.badRequest().body(
                 new ErrorResponse("Invalid ID format")
             );
         }
 
+        MediaType format = SerializedResponseCache.negotiate(webRequest);
         try {
+            if (isConditional(webRequest)) {
+                Optional<User> version = userService.findVersionById(id);
+                if (version.isPresent()) {
+                    revalidate(webRequest);
+                    if (webRequest.checkNotModified(UserETags.of(version.get(), format), UserETags.updatedMillis(version.get()))) {
+                        logger.debug("User not modified {}", kv("userId", id));
+                        return null;
+                    }
+                }
+            }
+
             Optional<User> user = userService.findById(id);
 
             if (user.isEmpty()) {
-                logger.warn("User not found with ID: {}", id);
+                logger.warn("User not found {}", kv("userId", id));
                 return ResponseEntity.status(404).body(
                     new ErrorResponse("User not found")
                 );
             }
 
-            logger.info("User found with ID: {}", id);
-            return ResponseEntity.ok(user.get());
+            logger.info(LogMarkers.SAMPLED, "User found {}", kv("userId", id));
+            if (format == null) {
+                return cacheable(UserETags.of(user.get(), format), UserETags.updatedMillis(user.get())).body(UserResponse.of(user.get()));
+            }
+
+            long version = UserETags.updatedMillis(user.get());
+            byte[] body = responseCache.get(id, version, format, UserResponse.of(user.get()));
+            writeCacheable(webRequest.getResponse(), UserETags.of(user.get(), format), version, format, body);
+            return null;
         } catch (Exception e) {
-            logger.error("Error fetching user with ID {}: {}", id, e.getMessage(), e);
+            logger.error("Error fetching user {}", kv("userId", id), e);
             return ResponseEntity.status(500).body(
                 new ErrorResponse("Internal server error")
             );
@@ -119,19 +390,20 @@ public class UserController {
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
     public ResponseEntity<?> updateUser(
             @PathVariable String id,
-            @Valid @RequestBody UserUpdateRequest updateRequest
+            @Valid @RequestBody UserUpdateRequest updateRequest,
+            ServletWebRequest webRequest
     ) {
-        logger.info("Updating user with ID: {}", id);
+        logger.debug("Updating user {}", kv("userId", id));
 
         if (!id.matches("^[a-fA-F0-9]{24}$")) {
-            logger.warn("Invalid ID format for update: {}", id);
+            logger.warn("Invalid ID format for update {}", kv("userId", id));
             return ResponseEntity.badRequest().body(
                 new ErrorResponse("Invalid ID format")
             );
         }
 
         if (updateRequest.getName() == null && updateRequest.getEmail() == null) {
-            logger.warn("Update request for ID {} contains no data", id);
+            logger.warn("Update request contains no data {}", kv("userId", id));
             return ResponseEntity.badRequest().body(
                 new ErrorResponse("No data provided")
             );
@@ -140,10 +412,12 @@ public class UserController {
         Optional<User> updatedUser = userService.updateUser(id, updateRequest);
 
         if (updatedUser.isPresent()) {
-            logger.info("User with ID {} updated successfully", id);
-            return ResponseEntity.ok(updatedUser.get());
+            logger.info("User updated {}", kv("userId", id));
+            return ResponseEntity.ok()
+                    .eTag(UserETags.of(updatedUser.get(), SerializedResponseCache.negotiate(webRequest)))
+                    .body(UserResponse.of(updatedUser.get()));
         } else {
-            logger.warn("User with ID {} not found for update", id);
+            logger.warn("User not found for update {}", kv("userId", id));
             return ResponseEntity.status(404).body(
                 new ErrorResponse("User not found")
             );
@@ -164,10 +438,10 @@ public class UserController {
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
     public ResponseEntity<?> deleteUser(
             @PathVariable("id") String id) {
-        logger.info("Deleting user with ID: {}", id);
+        logger.debug("Deleting user {}", kv("userId", id));
 
         if (!id.matches("^[a-fA-F0-9]{24}$")) {
-            logger.warn("Invalid ID format for deletion: {}", id);
+            logger.warn("Invalid ID format for deletion {}", kv("userId", id));
             return ResponseEntity.badRequest().body(
                 new ErrorResponse("Invalid ID format")
             );
@@ -175,17 +449,65 @@ public class UserController {
 
         try {
             userService.deleteUser(id);
-            logger.info("User with ID {} deleted successfully", id);
+            logger.info("User deleted {}", kv("userId", id));
             return ResponseEntity.noContent().build();
         } catch (UserNotFoundException ex) {
-            logger.error("Error deleting user with ID {}: {}", id, ex.getMessage());
+            logger.warn("User not found for deletion {}", kv("userId", id));
             return ResponseEntity.status(404).body(new ErrorResponse("User not found"));
         } catch (Exception ex) {
-            logger.error("Unexpected error deleting user with ID {}: {}", id, ex.getMessage());
+            logger.error("Unexpected error deleting user {}", kv("userId", id), ex);
             return ResponseEntity.status(500).body(new ErrorResponse("Internal server error"));
         }
     }
 
+    /**
+     * A 200 the client may cache and must revalidate.
+     */
+    private static ResponseEntity.BodyBuilder cacheable(String eTag, long lastModified) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT);
+        if (lastModified > 0) {
+            response.lastModified(lastModified);
+        }
+        return response;
+    }
+
+    /**
+     * Same headers as {@link #cacheable(String, long)}, for bodies written without a converter.
+     */
+    private static void writeCacheable(HttpServletResponse response, String eTag, long lastModified,
+                                       MediaType format, byte[] body) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE.getHeaderValue());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (lastModified > 0) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        }
+        response.setContentType(format.toString());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Headers a 304 must repeat; the representation depends on the negotiated format.
+     */
+    private static void revalidate(ServletWebRequest webRequest) {
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE.getHeaderValue());
+        webRequest.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static boolean isConditional(ServletWebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
     /**
      * Error response wrapper.
      *
@@ -0,0 +1,73 @@
+package com.example.backend.controller;
+
+import com.example.backend.model.User;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Strong validators for user resources, derived from ids and {@code updated} timestamps only,
+ * so they can be computed from a projection as well as from full documents.
+ * Each names the negotiated format too: JSON, Smile, CBOR and Protobuf bodies differ byte for byte,
+ * so a client switching {@code Accept} must not revalidate one against another.
+ */
+final class UserETags {
+
+    private UserETags() {
+    }
+
+    static String of(User user, MediaType format) {
+        return "\"" + user.getId() + "-" + Long.toString(updatedMillis(user), 36) + "-" + formatTag(format) + "\"";
+    }
+
+    /**
+     * Covers membership and order of the page as well as each entry's version,
+     * so deletions and inserts change it too.
+     */
+    static String ofPage(int page, int limit, List<User> users, MediaType format) {
+        MessageDigest digest = sha256();
+        digest.update((page + ":" + limit).getBytes(StandardCharsets.US_ASCII));
+        for (User user : users) {
+            digest.update((";" + user.getId() + "-" + updatedMillis(user)).getBytes(StandardCharsets.US_ASCII));
+        }
+        return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "-" + formatTag(format) + "\"";
+    }
+
+    /**
+     * Latest update in the page, or -1 (unknown) for an empty page.
+     * Spring ignores negative values when evaluating If-Modified-Since.
+     */
+    static long lastModified(List<User> users) {
+        long latest = -1;
+        for (User user : users) {
+            latest = Math.max(latest, updatedMillis(user));
+        }
+        return latest;
+    }
+
+    static long updatedMillis(User user) {
+        Date updated = user.getUpdated();
+        return updated != null ? updated.getTime() : 0;
+    }
+
+    /**
+     * Subtype of the negotiated format, e.g. {@code json} or {@code x-protobuf}; {@code any} when none of
+     * the served formats was acceptable and the regular converters decide.
+     */
+    private static String formatTag(MediaType format) {
+        return format == null ? "any" : format.getSubtype();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
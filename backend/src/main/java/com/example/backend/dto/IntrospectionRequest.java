@@ -0,0 +1,17 @@
+package com.example.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO for batch token introspection requests.
+ */
+@Data
+public class IntrospectionRequest {
+    @NotEmpty(message = "At least one token is required")
+    @Size(max = 100, message = "At most 100 tokens per request")
+    private List<String> tokens;
+}
@@ -0,0 +1,13 @@
+package com.example.backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+/**
+ * DTO for token refresh, and optionally sign-out, requests.
+ */
+@Data
+public class RefreshRequest {
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+}
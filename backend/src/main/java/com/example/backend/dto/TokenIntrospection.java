@@ -0,0 +1,38 @@
+package com.example.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.jsonwebtoken.Claims;
+import lombok.Value;
+
+/**
+ * Introspection result for one token, shaped after RFC 7662.
+ * Inactive tokens carry no claims and no reason. Immutable, so the inactive result is shared.
+ */
+@Value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospection {
+
+    private static final TokenIntrospection INACTIVE = new TokenIntrospection(false, null, null, null, null, null);
+
+    boolean active;
+    String sub;
+    String email;
+    String role;
+    // Epoch seconds
+    Long iat;
+    Long exp;
+
+    public static TokenIntrospection inactive() {
+        return INACTIVE;
+    }
+
+    public static TokenIntrospection active(Claims claims) {
+        return new TokenIntrospection(
+                true,
+                claims.getSubject(),
+                claims.get("email", String.class),
+                claims.get("role", String.class),
+                claims.getIssuedAt() == null ? null : claims.getIssuedAt().getTime() / 1000,
+                claims.getExpiration() == null ? null : claims.getExpiration().getTime() / 1000);
+    }
+}
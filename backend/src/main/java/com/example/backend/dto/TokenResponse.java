@@ -0,0 +1,17 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Tokens returned by sign-in and refresh.
+ */
+@Data
+@AllArgsConstructor
+public class TokenResponse {
+    // Short-lived access token (JWT)
+    private String token;
+    private String refreshToken;
+    // Access token lifetime in seconds
+    private long expiresIn;
+}
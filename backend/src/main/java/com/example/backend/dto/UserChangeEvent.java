@@ -0,0 +1,19 @@
+package com.example.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Value;
+
+/**
+ * One change to the users collection, as sent on {@code GET /api/users/stream}.
+ *
+ * {@code type} is {@code insert}, {@code update}, {@code replace} or {@code delete}; {@code user} is the
+ * user after the change, absent for deletions. A {@code reset} event carries neither: changes may have been
+ * missed, and the client should reload the users it shows.
+ */
+@Value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserChangeEvent {
+    String type;
+    String id;
+    UserResponse user;
+}
@@ -1,11 +1,12 @@
 package com.example.backend.dto;
 
+import com.example.backend.model.User;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import java.util.Date;
 
 /**
- * DTO for returning user details after successful creation.
+ * DTO for returning user details; never carries the password hash or token version.
  */
 @Data
 @AllArgsConstructor
@@ -16,4 +17,9 @@ public class UserResponse {
     private String role;
     private Date created;
     private Date updated;
+
+    public static UserResponse of(User user) {
+        return new UserResponse(user.getId(), user.getName(), user.getEmail(), user.getRole(),
+                user.getCreated(), user.getUpdated());
+    }
 }
@@ -0,0 +1,29 @@
+package com.example.backend.dto;
+
+import lombok.Value;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * User counts for the admin dashboard, read from rollups rather than counted on each request.
+ * {@code total} is the collection's estimated count; the other figures are maintained as users
+ * are created and deleted, and corrected by the periodic reconciliation ({@code reconciledAt}).
+ */
+@Value
+public class UserStats {
+
+    long total;
+    Map<String, Long> byRole;
+    // Oldest day first, days without signups included
+    List<DailySignups> signupsPerDay;
+    Date reconciledAt;
+
+    @Value
+    public static class DailySignups {
+        // ISO-8601 date, UTC
+        String day;
+        long count;
+    }
+}
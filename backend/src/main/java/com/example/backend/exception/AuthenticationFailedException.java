@@ -0,0 +1,31 @@
+package com.example.backend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+/**
+ * Base type for failed sign-ins and token refreshes.
+ *
+ * Failed logins are routine (and, under credential stuffing, the bulk of traffic), so these
+ * exceptions carry no stack trace or suppressed list, are thrown as shared instances, and come
+ * with their 401 response prebuilt.
+ */
+public abstract sealed class AuthenticationFailedException extends RuntimeException
+        permits UnknownUserException, InvalidCredentialsException, InvalidRefreshTokenException {
+
+    private final ResponseEntity<Map<String, String>> response;
+
+    protected AuthenticationFailedException(String message) {
+        super(message, null, false, false);
+        this.response = ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("message", message));
+    }
+
+    /**
+     * The immutable 401 response for this failure.
+     */
+    public ResponseEntity<Map<String, String>> toResponse() {
+        return response;
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.backend.exception;
 
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
 import org.springframework.http.ResponseEntity;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.http.HttpStatus;
 
 import java.util.*;
@@ -34,16 +37,50 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(UnsupportedQueryException.class)
+    public ResponseEntity<Map<String, String>> handleUnsupportedQuery(UnsupportedQueryException ex) {
+        return ResponseEntity.badRequest().body(Map.of("message", ex.getMessage()));
+    }
+
+    /**
+     * A query parameter that does not parse, e.g. a malformed date filter.
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Map<String, String>> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        return ResponseEntity.badRequest().body(Map.of("message", "Invalid value for " + ex.getName()));
+    }
+
     @ExceptionHandler(UserAlreadyExistsException.class)
     public ResponseEntity<Map<String, String>> handleDuplicateEmail(UserAlreadyExistsException ex) {
         return ResponseEntity.status(409).body(Map.of("message", ex.getMessage()));
     }
 
+    @ExceptionHandler(AuthenticationFailedException.class)
+    public ResponseEntity<Map<String, String>> handleAuthenticationFailed(AuthenticationFailedException ex) {
+        return ex.toResponse();
+    }
+
     @ExceptionHandler(PayloadTooLargeException.class)
     public ResponseEntity<Map<String, String>> handlePayloadTooLarge(PayloadTooLargeException ex) {
         return ResponseEntity.status(413).body(Map.of("message", ex.getMessage()));
     }
 
+    /**
+     * Bodies cut off by the size limit or by parser constraints while being read are 413s;
+     * any other unreadable body is handled as before.
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<?> handleUnreadableBody(HttpMessageNotReadableException ex) {
+        Throwable cause = ex.getMostSpecificCause();
+        if (cause instanceof PayloadTooLargeException tooLarge) {
+            return handlePayloadTooLarge(tooLarge);
+        }
+        if (cause instanceof StreamConstraintsException) {
+            return handlePayloadTooLarge(new PayloadTooLargeException("Payload too large"));
+        }
+        return handleAuthErrors(ex);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleGeneric(Exception ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
@@ -52,14 +89,13 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * Global exception handling for invalid credentials.
+     * Remaining runtime failures are reported as 401 with their message.
+     * Sign-in failures have their own typed handler above.
      */
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<?> handleAuthErrors(RuntimeException ex) {
-        String message = ex.getMessage().equals("Invalid credentials") ?
-                "Invalid email or password" : ex.getMessage();
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                .body(Map.of("message", message));
+                .body(Map.of("message", String.valueOf(ex.getMessage())));
     }
 
     record ErrorResponse(String message) {}
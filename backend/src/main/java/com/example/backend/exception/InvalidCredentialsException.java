@@ -0,0 +1,13 @@
+package com.example.backend.exception;
+
+/**
+ * Thrown when the password does not match the user's.
+ */
+public final class InvalidCredentialsException extends AuthenticationFailedException {
+
+    public static final InvalidCredentialsException INSTANCE = new InvalidCredentialsException();
+
+    private InvalidCredentialsException() {
+        super("Invalid email or password");
+    }
+}
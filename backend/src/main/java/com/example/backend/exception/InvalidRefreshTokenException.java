@@ -0,0 +1,13 @@
+package com.example.backend.exception;
+
+/**
+ * Thrown when a refresh token is unknown, expired, already rotated or revoked.
+ */
+public final class InvalidRefreshTokenException extends AuthenticationFailedException {
+
+    public static final InvalidRefreshTokenException INSTANCE = new InvalidRefreshTokenException();
+
+    private InvalidRefreshTokenException() {
+        super("Invalid refresh token");
+    }
+}
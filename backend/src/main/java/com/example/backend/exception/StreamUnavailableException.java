@@ -0,0 +1,11 @@
+package com.example.backend.exception;
+
+/**
+ * A change stream subscription that cannot be served right now: the subscriber limit is reached,
+ * or the database does not support change streams.
+ */
+public class StreamUnavailableException extends RuntimeException {
+    public StreamUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.backend.exception;
+
+/**
+ * Thrown when signing in with an email no user is registered with.
+ */
+public final class UnknownUserException extends AuthenticationFailedException {
+
+    public static final UnknownUserException INSTANCE = new UnknownUserException();
+
+    private UnknownUserException() {
+        super("User not found");
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.backend.exception;
+
+/**
+ * A listing no index can answer in order; refused rather than run as a scan.
+ */
+public class UnsupportedQueryException extends RuntimeException {
+    public UnsupportedQueryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.backend.health;
+
+import com.example.backend.config.AppProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * MongoDB reachability from a ping sent in the background every {@code HEALTH_MONGO_PING_INTERVAL_MS},
+ * so probes never wait on the database and probe traffic never reaches it.
+ *
+ * Down until the first reply, and again once no reply has arrived for three intervals: a ping
+ * stuck in server selection counts as a failure long before the driver gives up on it.
+ * Replaces Spring Boot's indicator of the same name, which runs a command on every call.
+ */
+@Component("mongoHealthIndicator")
+public class MongoHealthIndicator implements HealthIndicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(MongoHealthIndicator.class);
+
+    private static final Document PING = new Document("ping", 1);
+
+    private record Ping(long repliedAt, long latencyNanos, String error) {}
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration interval;
+    private final long maxSilenceNanos;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "mongo-ping");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Ping last = new Ping(0, 0, null);
+    private volatile boolean reachable;
+
+    public MongoHealthIndicator(MongoTemplate mongoTemplate, AppProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.interval = properties.health().mongoPingInterval();
+        this.maxSilenceNanos = interval.toNanos() * 3;
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleWithFixedDelay(this::ping, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public Health health() {
+        Ping ping = last;
+        if (ping.repliedAt() == 0) {
+            return Health.down().withDetail("error", ping.error() == null ? "no ping reply yet" : ping.error()).build();
+        }
+        long silence = System.nanoTime() - ping.repliedAt();
+        if (silence > maxSilenceNanos) {
+            return Health.down()
+                    .withDetail("error", ping.error() == null ? "ping overdue" : ping.error())
+                    .withDetail("lastReplyAgoMs", TimeUnit.NANOSECONDS.toMillis(silence))
+                    .build();
+        }
+        return Health.up()
+                .withDetail("latencyMs", TimeUnit.NANOSECONDS.toMillis(ping.latencyNanos()))
+                .withDetail("lastReplyAgoMs", TimeUnit.NANOSECONDS.toMillis(silence))
+                .build();
+    }
+
+    void ping() {
+        long start = System.nanoTime();
+        try {
+            mongoTemplate.getDb().runCommand(PING);
+            long now = System.nanoTime();
+            last = new Ping(now, now - start, null);
+            if (!reachable) {
+                reachable = true;
+                logger.info("MongoDB reachable {}", kv("latencyMs", TimeUnit.NANOSECONDS.toMillis(now - start)));
+            }
+        } catch (RuntimeException e) {
+            // Keep the last reply time: the indicator turns down once it is too old
+            last = new Ping(last.repliedAt(), last.latencyNanos(), e.getClass().getSimpleName() + ": " + e.getMessage());
+            if (reachable) {
+                reachable = false;
+                logger.warn("MongoDB ping failed {}", kv("error", e.getMessage()));
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.backend.health;
+
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection pool usage across every server the client talks to, registered on the client in
+ * {@code MongoConfig}. The wait queue (threads waiting for a connection) is the early sign of
+ * a saturated pool: latency grows with it long before checkouts start timing out.
+ */
+@Component
+public class MongoPoolMonitor implements ConnectionPoolListener {
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger checkedOut = new AtomicInteger();
+
+    public MongoPoolMonitor(MeterRegistry meterRegistry) {
+        Gauge.builder("mongodb.pool.waitqueue", waiting, AtomicInteger::get)
+                .description("Threads waiting for a MongoDB connection")
+                .register(meterRegistry);
+        Gauge.builder("mongodb.pool.checkedout", checkedOut, AtomicInteger::get)
+                .description("MongoDB connections currently in use")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void connectionCheckOutStarted(ConnectionCheckOutStartedEvent event) {
+        waiting.incrementAndGet();
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        waiting.decrementAndGet();
+        checkedOut.incrementAndGet();
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        waiting.decrementAndGet();
+    }
+
+    @Override
+    public void connectionCheckedIn(ConnectionCheckedInEvent event) {
+        checkedOut.decrementAndGet();
+    }
+
+    public int getWaitQueueSize() {
+        return waiting.get();
+    }
+
+    public int getCheckedOut() {
+        return checkedOut.get();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.backend.health;
+
+import com.example.backend.config.AppProperties;
+import com.example.backend.security.CountingPasswordEncoder;
+import com.example.backend.web.ConcurrencyLimitFilter;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Out of service while this instance is saturated, so the load balancer routes around it before
+ * its latency collapses: too many threads waiting for a MongoDB connection, in-flight requests
+ * close to the adaptive concurrency limit, or too many password hashes competing for CPU.
+ *
+ * Part of the readiness group only; a saturated instance is still alive.
+ */
+@Component
+public class SaturationHealthIndicator implements HealthIndicator {
+
+    private final MongoPoolMonitor mongoPool;
+    private final ConcurrencyLimitFilter concurrencyLimit;
+    private final CountingPasswordEncoder passwordEncoder;
+    private final AppProperties.Health thresholds;
+
+    public SaturationHealthIndicator(MongoPoolMonitor mongoPool, ConcurrencyLimitFilter concurrencyLimit,
+                                     CountingPasswordEncoder passwordEncoder, AppProperties properties) {
+        this.mongoPool = mongoPool;
+        this.concurrencyLimit = concurrencyLimit;
+        this.passwordEncoder = passwordEncoder;
+        this.thresholds = properties.health();
+    }
+
+    @Override
+    public Health health() {
+        int waitQueue = mongoPool.getWaitQueueSize();
+        int inflight = concurrencyLimit.getInflight();
+        int limit = concurrencyLimit.getLimit();
+        double utilization = limit == 0 ? 1.0 : (double) inflight / limit;
+        int hashing = passwordEncoder.getInflight();
+
+        List<String> saturated = new ArrayList<>();
+        if (waitQueue > thresholds.maxMongoWaitQueue()) {
+            saturated.add("mongoWaitQueue");
+        }
+        if (utilization > thresholds.maxConcurrencyUtilization()) {
+            saturated.add("concurrency");
+        }
+        if (hashing > thresholds.maxHashingInflight()) {
+            saturated.add("hashing");
+        }
+
+        return Health.status(saturated.isEmpty() ? Status.UP : Status.OUT_OF_SERVICE)
+                .withDetail("mongoWaitQueue", waitQueue)
+                .withDetail("concurrencyInflight", inflight)
+                .withDetail("concurrencyLimit", limit)
+                .withDetail("hashingInflight", hashing)
+                .withDetail("saturated", saturated)
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.backend.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AsyncAppender} that counts the events it throws away instead of blocking callers.
+ *
+ * Events are dropped in two places: below the discarding threshold (INFO and lower only) and,
+ * with {@code neverBlock}, when the queue is completely full. Both are counted here and
+ * exported as a metric by {@link LoggingMetrics}.
+ */
+public class DropCountingAsyncAppender extends AsyncAppender {
+
+    static final LongAdder DROPPED = new LongAdder();
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            DROPPED.increment();
+        }
+        return discardable;
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // Best effort: the worker may free a slot right after this check, which only under-counts
+        if (isNeverBlock() && getRemainingCapacity() == 0) {
+            DROPPED.increment();
+            return;
+        }
+        super.append(event);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.backend.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * Markers understood by the logging pipeline configured in logback-spring.xml.
+ */
+public final class LogMarkers {
+
+    /**
+     * High-volume success lines. Subject to per-logger sampling by {@link SamplingTurboFilter}.
+     */
+    public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+
+    private LogMarkers() {
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.backend.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Exposes logging pipeline counters. The appender and filter are created by Logback before
+ * the application context exists, hence the static counters.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("logging.events.dropped", DropCountingAsyncAppender.DROPPED, LongAdder::sum)
+                .description("Log events discarded because the async queue was saturated")
+                .register(registry);
+        FunctionCounter.builder("logging.events.sampled", SamplingTurboFilter.SAMPLED_OUT, LongAdder::sum)
+                .description("Log events skipped by per-logger sampling")
+                .register(registry);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.backend.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps one in N INFO-or-lower events carrying {@link LogMarkers#SAMPLED}, per logger.
+ *
+ * Rates are configured per logger name (or package prefix) in logback-spring.xml:
+ * <pre>
+ * &lt;turboFilter class="com.example.backend.logging.SamplingTurboFilter"&gt;
+ *     &lt;rate&gt;com.example.backend.controller.UserController=10&lt;/rate&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ * Runs before the event is created, so sampled-out lines cost no formatting or queueing.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    static final LongAdder SAMPLED_OUT = new LongAdder();
+
+    private final Map<String, Integer> configuredRates = new ConcurrentHashMap<>();
+    private final Map<String, Integer> resolvedRates = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private int defaultRate = 1;
+
+    /**
+     * Adds a {@code loggerName=N} rule. Called by Joran for each {@code <rate>} element.
+     */
+    public void addRate(String rule) {
+        int eq = rule.lastIndexOf('=');
+        if (eq <= 0) {
+            addError("Invalid sampling rule '" + rule + "', expected loggerName=N");
+            return;
+        }
+        try {
+            configuredRates.put(rule.substring(0, eq).trim(), Math.max(1, Integer.parseInt(rule.substring(eq + 1).trim())));
+        } catch (NumberFormatException e) {
+            addError("Invalid sampling rate in '" + rule + "'");
+        }
+    }
+
+    public void setDefaultRate(int defaultRate) {
+        this.defaultRate = Math.max(1, defaultRate);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (marker == null || level.isGreaterOrEqual(Level.WARN) || !marker.contains(LogMarkers.SAMPLED)) {
+            return FilterReply.NEUTRAL;
+        }
+        int rate = resolvedRates.computeIfAbsent(logger.getName(), this::resolveRate);
+        if (rate == 1) {
+            return FilterReply.NEUTRAL;
+        }
+        long n = counters.computeIfAbsent(logger.getName(), name -> new AtomicLong()).getAndIncrement();
+        if (n % rate == 0) {
+            return FilterReply.NEUTRAL;
+        }
+        SAMPLED_OUT.increment();
+        return FilterReply.DENY;
+    }
+
+    /**
+     * Longest configured prefix wins, mirroring logger level inheritance.
+     */
+    private int resolveRate(String loggerName) {
+        String name = loggerName;
+        while (true) {
+            Integer rate = configuredRates.get(name);
+            if (rate != null) {
+                return rate;
+            }
+            int dot = name.lastIndexOf('.');
+            if (dot < 0) {
+                return defaultRate;
+            }
+            name = name.substring(0, dot);
+        }
+    }
+}
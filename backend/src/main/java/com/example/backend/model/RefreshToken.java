@@ -0,0 +1,33 @@
+package com.example.backend.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.util.Date;
+
+/**
+ * A server-side refresh token. Only the SHA-256 of the token is stored.
+ *
+ * Every token issued by rotating another belongs to the same family; presenting a token
+ * that was already rotated revokes the whole family. Expired documents are removed by a TTL index.
+ */
+@Document(collection = "refresh_tokens")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshToken {
+
+    @Id
+    private String id;
+
+    private String userId;
+
+    private String familyId;
+
+    private boolean used;
+
+    private Date created;
+
+    private Date expiresAt;
+}
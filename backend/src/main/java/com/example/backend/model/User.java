@@ -1,9 +1,11 @@
 package com.example.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.Date;
+import java.util.Locale;
 
 /**
  * MongoDB entity for storing user data.
@@ -22,6 +24,8 @@ public class User {
 
     private String email;
 
+    // BCrypt hash; responses are built from UserResponse, this keeps it out of any entity serialised by mistake
+    @JsonIgnore
     private String password;
 
     @Builder.Default
@@ -32,4 +36,26 @@ public class User {
 
     @Builder.Default
     private Date updated = new Date();
+
+    // Embedded in access tokens; incrementing it revokes every token issued before
+    @JsonIgnore
+    @Builder.Default
+    private long tokenVersion = 0L;
+
+    public User(String id, String name, String email, String password, String role, Date created, Date updated) {
+        this(id, name, email, password, role, created, updated, 0L);
+    }
+
+    /**
+     * The lower-cased part of an email after its last {@code @}; null for a missing email or one without a domain.
+     * Stored as {@code emailDomain} next to the email for the listing's domain filter, by {@code UserCodec} and
+     * {@code UserEmailDomainCallback}; it is not a property of the entity, the email is the source of truth.
+     */
+    public static String emailDomainOf(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.lastIndexOf('@');
+        return at < 0 || at == email.length() - 1 ? null : email.substring(at + 1).toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,163 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.User;
+import com.mongodb.client.model.Filters;
+import org.bson.BsonObjectId;
+import org.bson.BsonReader;
+import org.bson.BsonString;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+
+import java.util.Date;
+
+/**
+ * Hand-written codec for {@link User}, replacing reflective mapping on hot paths.
+ *
+ * Documents are laid out exactly as {@code MappingMongoConverter} writes them: ids that are valid
+ * hex strings are stored as ObjectIds, null fields are omitted and {@code _class} is recorded, so
+ * both can read what the other wrote. Unknown fields are skipped.
+ *
+ * {@code emailDomain} is derived from the email on write, for indexed filtering ({@link UserListQuery}),
+ * and ignored on read; {@link UserEmailDomainCallback} adds it to what the converter writes.
+ */
+public class UserCodec implements CollectibleCodec<User> {
+
+    private static final String TYPE_KEY = "_class";
+    private static final String TYPE_HINT = User.class.getName();
+
+    @Override
+    public void encode(BsonWriter writer, User user, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        if (user.getId() != null) {
+            writer.writeName("_id");
+            if (ObjectId.isValid(user.getId())) {
+                writer.writeObjectId(new ObjectId(user.getId()));
+            } else {
+                writer.writeString(user.getId());
+            }
+        }
+        writeString(writer, "name", user.getName());
+        writeString(writer, "email", user.getEmail());
+        writeString(writer, "emailDomain", User.emailDomainOf(user.getEmail()));
+        writeString(writer, "password", user.getPassword());
+        writeString(writer, "role", user.getRole());
+        writeDate(writer, "created", user.getCreated());
+        writeDate(writer, "updated", user.getUpdated());
+        writer.writeInt64("tokenVersion", user.getTokenVersion());
+        writer.writeString(TYPE_KEY, TYPE_HINT);
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public User decode(BsonReader reader, DecoderContext decoderContext) {
+        // Same starting point as the converter: absent fields keep the entity's defaults
+        User user = new User();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "_id" -> user.setId(reader.getCurrentBsonType() == BsonType.OBJECT_ID
+                        ? reader.readObjectId().toHexString()
+                        : reader.readString());
+                case "name" -> user.setName(readString(reader));
+                case "email" -> user.setEmail(readString(reader));
+                case "password" -> user.setPassword(readString(reader));
+                case "role" -> user.setRole(readString(reader));
+                case "created" -> user.setCreated(readDate(reader));
+                case "updated" -> user.setUpdated(readDate(reader));
+                case "tokenVersion" -> user.setTokenVersion(readLong(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return user;
+    }
+
+    @Override
+    public Class<User> getEncoderClass() {
+        return User.class;
+    }
+
+    @Override
+    public User generateIdIfAbsentFromDocument(User user) {
+        if (user.getId() == null) {
+            user.setId(new ObjectId().toHexString());
+        }
+        return user;
+    }
+
+    @Override
+    public boolean documentHasId(User user) {
+        return user.getId() != null;
+    }
+
+    @Override
+    public BsonValue getDocumentId(User user) {
+        if (user.getId() == null) {
+            throw new IllegalStateException("The user does not contain an _id");
+        }
+        return ObjectId.isValid(user.getId())
+                ? new BsonObjectId(new ObjectId(user.getId()))
+                : new BsonString(user.getId());
+    }
+
+    /**
+     * Filter matching a user id the way it is stored.
+     */
+    public static Bson idFilter(String id) {
+        return Filters.eq("_id", storedId(id));
+    }
+
+    /**
+     * A user id as it is stored: an ObjectId when it is a valid hex string.
+     */
+    public static Object storedId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    private static String readString(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return null;
+        }
+        return reader.readString();
+    }
+
+    // $inc on a missing field stores whatever numeric type the increment had
+    private static long readLong(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case INT64 -> reader.readInt64();
+            case INT32 -> reader.readInt32();
+            case DOUBLE -> (long) reader.readDouble();
+            default -> {
+                reader.skipValue();
+                yield 0L;
+            }
+        };
+    }
+
+    private static Date readDate(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return null;
+        }
+        return new Date(reader.readDateTime());
+    }
+
+    private static void writeString(BsonWriter writer, String name, String value) {
+        if (value != null) {
+            writer.writeString(name, value);
+        }
+    }
+
+    private static void writeDate(BsonWriter writer, String name, Date value) {
+        if (value != null) {
+            writer.writeDateTime(name, value.getTime());
+        }
+    }
+}
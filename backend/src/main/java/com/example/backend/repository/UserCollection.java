@@ -0,0 +1,22 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.User;
+import com.mongodb.client.MongoCollection;
+import org.springframework.data.mongodb.core.MongoOperations;
+
+import java.util.function.Function;
+
+/**
+ * Driver-level access to the users collection, decoded by {@link UserCodec} instead of the
+ * reflective converter. Session-bound operations keep their session; driver errors are translated
+ * into Spring's DataAccessException hierarchy as with any template call.
+ */
+public final class UserCollection {
+
+    private UserCollection() {
+    }
+
+    public static <T> T execute(MongoOperations operations, Function<MongoCollection<User>, T> action) {
+        return operations.execute(User.class, collection -> action.apply(collection.withDocumentClass(User.class)));
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.User;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores {@code emailDomain} on users written through {@code MongoTemplate} and the repository,
+ * like {@link UserCodec} does on its own write path. Null fields are omitted, as the converter would.
+ */
+@Component
+public class UserEmailDomainCallback implements BeforeSaveCallback<User> {
+
+    @Override
+    public User onBeforeSave(User user, Document document, String collection) {
+        String emailDomain = User.emailDomainOf(user.getEmail());
+        if (emailDomain == null) {
+            document.remove("emailDomain");
+        } else {
+            document.put("emailDomain", emailDomain);
+        }
+        return user;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.backend.repository;
+
+import com.example.backend.exception.UnsupportedQueryException;
+import com.example.backend.model.User;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Sorts;
+import org.bson.conversions.Bson;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A user listing translated into a query one of the {@link #INDEXES} answers in order.
+ *
+ * Planning follows the equality, sort, range rule: the chosen index starts with the equality
+ * filter, continues with the sort key and ends with {@code _id}, which breaks ties so pages are
+ * stable. A date range is only accepted on the sort key, where it narrows the same index scan.
+ * Any other combination would need a collection scan or an in-memory sort, and is refused with
+ * {@link UnsupportedQueryException} instead.
+ *
+ * @param filter documents to list
+ * @param sort   order of the listing, including the {@code _id} tie-breaker
+ * @param hint   the index the query is pinned to
+ */
+public record UserListQuery(Bson filter, Bson sort, Bson hint) {
+
+    /**
+     * Filters of a listing; null fields do not filter. Ranges include {@code from} and exclude {@code to}.
+     */
+    public record Criteria(String role, String emailDomain, Instant createdFrom, Instant createdTo,
+                           Instant updatedFrom, Instant updatedTo) {
+
+        public static final Criteria NONE = new Criteria(null, null, null, null, null, null);
+    }
+
+    /**
+     * Sort keys a listing accepts, each optionally prefixed with {@code -} for descending order.
+     */
+    public static final List<String> SORT_KEYS = List.of("id", "created", "updated");
+
+    /**
+     * Keys of the compound indexes listings are planned against, all ascending.
+     * {@code {_id: 1}} exists on every collection and is not created.
+     */
+    public static final List<List<String>> INDEXES = List.of(
+            List.of("_id"),
+            List.of("created", "_id"),
+            List.of("updated", "_id"),
+            List.of("role", "_id"),
+            List.of("role", "created", "_id"),
+            List.of("role", "updated", "_id"),
+            List.of("emailDomain", "_id"),
+            List.of("emailDomain", "created", "_id"),
+            List.of("emailDomain", "updated", "_id"));
+
+    public static final UserListQuery DEFAULT = plan(Criteria.NONE, null);
+
+    /**
+     * @param sort one of {@link #SORT_KEYS}, optionally prefixed with {@code -}; null for the default,
+     *             which is the ranged field if there is one and {@code id} otherwise
+     * @throws UnsupportedQueryException if no index answers the listing in order
+     */
+    public static UserListQuery plan(Criteria criteria, String sort) {
+        List<Bson> filters = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+
+        if (criteria.role() != null && criteria.emailDomain() != null) {
+            throw new UnsupportedQueryException("Filter on role or email domain, not both");
+        }
+        if (criteria.role() != null) {
+            keys.add("role");
+            filters.add(Filters.eq("role", criteria.role().strip().toUpperCase(Locale.ROOT)));
+        }
+        if (criteria.emailDomain() != null) {
+            keys.add("emailDomain");
+            filters.add(Filters.eq("emailDomain", User.emailDomainOf("@" + criteria.emailDomain().strip())));
+        }
+
+        boolean createdRange = criteria.createdFrom() != null || criteria.createdTo() != null;
+        boolean updatedRange = criteria.updatedFrom() != null || criteria.updatedTo() != null;
+        if (createdRange && updatedRange) {
+            throw new UnsupportedQueryException("Filter on a created or an updated range, not both");
+        }
+        String range = createdRange ? "created" : updatedRange ? "updated" : null;
+
+        boolean descending = sort != null && sort.startsWith("-");
+        String sortKey = sort == null ? (range != null ? range : "id") : descending ? sort.substring(1) : sort;
+        if (!SORT_KEYS.contains(sortKey)) {
+            throw new UnsupportedQueryException("Sort must be one of " + SORT_KEYS + ", optionally prefixed with -");
+        }
+        String sortField = sortKey.equals("id") ? "_id" : sortKey;
+        if (range != null && !range.equals(sortField)) {
+            throw new UnsupportedQueryException("A range on " + range + " requires sort=" + range + " or sort=-" + range);
+        }
+        if (createdRange) {
+            filters.addAll(bounds("created", criteria.createdFrom(), criteria.createdTo()));
+        } else if (updatedRange) {
+            filters.addAll(bounds("updated", criteria.updatedFrom(), criteria.updatedTo()));
+        }
+
+        keys.add(sortField);
+        if (!sortField.equals("_id")) {
+            keys.add("_id");
+        }
+        if (!INDEXES.contains(keys)) {
+            throw new UnsupportedQueryException("No index supports this combination of filters and sort");
+        }
+
+        Bson order = descending ? Sorts.descending(sortField) : Sorts.ascending(sortField);
+        Bson tieBreaker = descending ? Sorts.descending("_id") : Sorts.ascending("_id");
+        return new UserListQuery(
+                filters.isEmpty() ? Filters.empty() : filters.size() == 1 ? filters.get(0) : Filters.and(filters),
+                sortField.equals("_id") ? order : Sorts.orderBy(order, tieBreaker),
+                Indexes.ascending(keys));
+    }
+
+    private static List<Bson> bounds(String field, Instant from, Instant to) {
+        List<Bson> bounds = new ArrayList<>(2);
+        if (from != null) {
+            bounds.add(Filters.gte(field, Date.from(from)));
+        }
+        if (to != null) {
+            bounds.add(Filters.lt(field, Date.from(to)));
+        }
+        return bounds;
+    }
+}
@@ -2,12 +2,20 @@ package com.example.backend.repository;
 
 import com.example.backend.model.User;
 import org.springframework.data.mongodb.repository.MongoRepository;
+
 import java.util.Optional;
 
 /**
  * Repository for User CRUD operations.
+ * findById, findByEmail and save are served by {@link UserRepositoryCustom}.
  */
-public interface UserRepository extends MongoRepository<User, String> {
+public interface UserRepository extends MongoRepository<User, String>, UserRepositoryCustom {
     boolean existsByEmail(String email);
-    Optional<User> findByEmail(String email);
+
+    // Inherited from both parents; redeclared so calls resolve unambiguously
+    @Override
+    Optional<User> findById(String id);
+
+    @Override
+    <S extends User> S save(S user);
 }
@@ -0,0 +1,15 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.User;
+
+import java.util.Optional;
+
+/**
+ * Hot-path user operations served through {@link UserCodec}.
+ * They take precedence over the derived and default {@link UserRepository} implementations.
+ */
+public interface UserRepositoryCustom {
+    Optional<User> findById(String id);
+    Optional<User> findByEmail(String email);
+    <S extends User> S save(S user);
+}
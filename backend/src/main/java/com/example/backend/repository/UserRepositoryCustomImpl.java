@@ -0,0 +1,46 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.User;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.Optional;
+
+/**
+ * Codec-backed implementation of {@link UserRepositoryCustom}.
+ * Saves follow {@code SimpleMongoRepository} semantics: insert when the id is missing, upsert otherwise.
+ */
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final ReplaceOptions UPSERT = new ReplaceOptions().upsert(true);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<User> findById(String id) {
+        return Optional.ofNullable(UserCollection.execute(mongoTemplate,
+                users -> users.find(UserCodec.idFilter(id)).first()));
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return Optional.ofNullable(UserCollection.execute(mongoTemplate,
+                users -> users.find(Filters.eq("email", email)).first()));
+    }
+
+    @Override
+    public <S extends User> S save(S user) {
+        return UserCollection.execute(mongoTemplate, users -> {
+            if (user.getId() == null) {
+                // The codec assigns the generated ObjectId to the entity
+                users.insertOne(user);
+            } else {
+                users.replaceOne(UserCodec.idFilter(user.getId()), user, UPSERT);
+            }
+            return user;
+        });
+    }
+}
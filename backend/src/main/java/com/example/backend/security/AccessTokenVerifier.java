@@ -0,0 +1,108 @@
+package com.example.backend.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The one verification path for access tokens: signature and expiry (keys cached by kid in
+ * {@link JwtKeyRing}), the revocation list, and the user's token version.
+ * Used per request by {@link JwtAuthenticationFilter} and in batches by token introspection.
+ */
+@Component
+public class AccessTokenVerifier {
+
+    public enum Status {
+        VALID,
+        /** Malformed, badly signed, signed with an unknown key, or expired. */
+        INVALID,
+        /** Genuine and unexpired, but signed out or issued before a sign-out everywhere. */
+        REVOKED
+    }
+
+    /**
+     * Outcome of a verification; claims are only present for {@link Status#VALID} tokens.
+     */
+    public record Verification(Status status, Claims claims) {
+
+        static final Verification INVALID = new Verification(Status.INVALID, null);
+        static final Verification REVOKED = new Verification(Status.REVOKED, null);
+
+        public boolean isValid() {
+            return status == Status.VALID;
+        }
+    }
+
+    private final JwtUtil jwtUtil;
+    private final TokenBlacklistService blacklistService;
+    private final TokenVersionCache tokenVersions;
+
+    public AccessTokenVerifier(JwtUtil jwtUtil, TokenBlacklistService blacklistService, TokenVersionCache tokenVersions) {
+        this.jwtUtil = jwtUtil;
+        this.blacklistService = blacklistService;
+        this.tokenVersions = tokenVersions;
+    }
+
+    public Verification verify(String token) {
+        if (blacklistService.isTokenBlacklisted(token)) {
+            return Verification.REVOKED;
+        }
+        Claims claims = jwtUtil.parse(token);
+        if (claims == null || claims.getSubject() == null) {
+            return Verification.INVALID;
+        }
+        if (!tokenVersions.isCurrent(claims.getSubject(), jwtUtil.extractTokenVersion(claims))) {
+            return Verification.REVOKED;
+        }
+        return new Verification(Status.VALID, claims);
+    }
+
+    /**
+     * Verifies a batch in one pass. Repeated tokens are checked once, and the token versions
+     * of all users involved are looked up together.
+     *
+     * @return one verification per token, in the same order
+     */
+    public List<Verification> verifyAll(List<String> tokens) {
+        Map<String, Claims> parsed = new HashMap<>();
+        Set<String> revoked = new HashSet<>();
+        Set<String> subjects = new HashSet<>();
+        for (String token : tokens) {
+            if (token == null || parsed.containsKey(token) || revoked.contains(token)) {
+                continue;
+            }
+            if (blacklistService.isTokenBlacklisted(token)) {
+                revoked.add(token);
+                continue;
+            }
+            Claims claims = jwtUtil.parse(token);
+            parsed.put(token, claims);
+            if (claims != null && claims.getSubject() != null) {
+                subjects.add(claims.getSubject());
+            }
+        }
+
+        Map<String, Long> versions = tokenVersions.currentVersions(subjects);
+
+        List<Verification> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            Claims claims = token == null ? null : parsed.get(token);
+            if (token != null && revoked.contains(token)) {
+                results.add(Verification.REVOKED);
+            } else if (claims == null || claims.getSubject() == null) {
+                results.add(Verification.INVALID);
+            } else if (jwtUtil.extractTokenVersion(claims) < versions.get(claims.getSubject())) {
+                results.add(Verification.REVOKED);
+            } else {
+                results.add(new Verification(Status.VALID, claims));
+            }
+        }
+        return results;
+    }
+}
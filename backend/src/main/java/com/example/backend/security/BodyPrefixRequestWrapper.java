@@ -0,0 +1,120 @@
+package com.example.backend.security;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Lets a filter peek at the first bytes of a request body without consuming it.
+ *
+ * Only the prefix is buffered; downstream readers see the prefix followed by the untouched
+ * remainder of the original stream, whether they read blocking or through a {@link ReadListener}.
+ */
+class BodyPrefixRequestWrapper extends HttpServletRequestWrapper {
+
+    private final byte[] prefix;
+    private final ServletInputStream inputStream;
+
+    BodyPrefixRequestWrapper(HttpServletRequest request, int maxPrefixBytes) throws IOException {
+        super(request);
+        ServletInputStream original = request.getInputStream();
+        this.prefix = original.readNBytes(maxPrefixBytes);
+        this.inputStream = new PrefixedServletInputStream(prefix, original);
+    }
+
+    byte[] getPrefix() {
+        return prefix;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(inputStream, charset));
+    }
+
+    /**
+     * The buffered prefix, then the original stream. Non-blocking reads go through the original
+     * stream's listener, with the prefix replayed first.
+     */
+    private static final class PrefixedServletInputStream extends ServletInputStream {
+
+        private final byte[] prefix;
+        private final ServletInputStream original;
+        private int position;
+
+        PrefixedServletInputStream(byte[] prefix, ServletInputStream original) {
+            this.prefix = prefix;
+            this.original = original;
+        }
+
+        private boolean inPrefix() {
+            return position < prefix.length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return inPrefix() ? prefix[position++] & 0xFF : original.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!inPrefix()) {
+                return original.read(b, off, len);
+            }
+            int n = Math.min(len, prefix.length - position);
+            System.arraycopy(prefix, position, b, off, n);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return !inPrefix() && original.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return inPrefix() || original.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            original.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    readListener.onDataAvailable();
+                }
+
+                @Override
+                public void onAllDataRead() throws IOException {
+                    // The whole body may already sit in the prefix; it is still unread downstream
+                    if (inPrefix()) {
+                        readListener.onDataAvailable();
+                    }
+                    readListener.onAllDataRead();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    readListener.onError(t);
+                }
+            });
+        }
+    }
+}
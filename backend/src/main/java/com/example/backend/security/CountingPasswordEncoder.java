@@ -0,0 +1,48 @@
+package com.example.backend.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts hashes in progress. BCrypt is CPU-bound, so once more hashes run than there are cores
+ * the extra ones effectively queue; the count is that queue's depth plus the hashes running.
+ */
+public class CountingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    public CountingPasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        inflight.incrementAndGet();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            inflight.decrementAndGet();
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        inflight.incrementAndGet();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            inflight.decrementAndGet();
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.backend.security;
+
+import com.example.backend.config.AppProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+/**
+ * Authenticates service-to-service calls on {@code /internal/} paths by API key.
+ *
+ * Callers send one of the keys listed in {@code INTERNAL_API_KEYS} (comma-separated, so keys
+ * can be rotated) in the {@value #HEADER} header and are granted {@code ROLE_INTERNAL}.
+ * With no keys configured, internal endpoints reject every call.
+ */
+@Component
+public class InternalApiKeyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Internal-Api-Key";
+
+    private static final Logger logger = LoggerFactory.getLogger(InternalApiKeyFilter.class);
+
+    private static final List<SimpleGrantedAuthority> INTERNAL = List.of(new SimpleGrantedAuthority("ROLE_INTERNAL"));
+
+    // Digests, so comparisons take the same time whatever the key lengths
+    private final List<byte[]> keyDigests;
+
+    public InternalApiKeyFilter(AppProperties properties) {
+        this.keyDigests = properties.internal().apiKeys().stream()
+                .map(String::trim)
+                .filter(key -> !key.isEmpty())
+                .map(InternalApiKeyFilter::sha256)
+                .toList();
+        if (keyDigests.isEmpty()) {
+            logger.info("INTERNAL_API_KEYS not set, internal endpoints are disabled");
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/internal/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String key = request.getHeader(HEADER);
+        if (key != null && matches(key)) {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken("internal", null, INTERNAL));
+        } else if (key != null) {
+            logger.warn("Rejected internal call with unknown API key.");
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean matches(String key) {
+        byte[] digest = sha256(key);
+        boolean matched = false;
+        for (byte[] known : keyDigests) {
+            matched |= MessageDigest.isEqual(known, digest);
+        }
+        return matched;
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
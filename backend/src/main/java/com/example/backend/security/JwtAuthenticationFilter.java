@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.example.backend.logging.LogMarkers;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -23,15 +24,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     private final JwtUtil jwtUtil;
-    private final TokenBlacklistService blacklistService;
+    private final AccessTokenVerifier tokenVerifier;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, TokenBlacklistService blacklistService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, AccessTokenVerifier tokenVerifier) {
         this.jwtUtil = jwtUtil;
-        this.blacklistService = blacklistService;
+        this.tokenVerifier = tokenVerifier;
     }
 
     /**
-     * Skips filtering on public paths like Swagger and auth.
+     * Skips filtering on public paths like Swagger, auth and the JWK set,
+     * and on internal endpoints, which authenticate with an API key.
      */
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -41,7 +43,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             || path.startsWith("/swagger-resources")
             || path.equals("/swagger-ui.html")
             || path.startsWith("/webjars")
-            || path.startsWith("/auth/");
+            || path.startsWith("/auth/")
+            || path.equals("/.well-known/jwks.json")
+            || path.startsWith("/internal/");
     }
 
 
@@ -54,22 +58,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
 
-            // Check if token is blacklisted
-            if (blacklistService.isTokenBlacklisted(token)) {
-                logger.warn("Blocked request with blacklisted token.");
+            AccessTokenVerifier.Verification verification = tokenVerifier.verify(token);
+
+            // Signed out, or issued before the user signed out everywhere
+            if (verification.status() == AccessTokenVerifier.Status.REVOKED) {
+                logger.warn("Blocked request with revoked token.");
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 response.setContentType("application/json");
                 response.getWriter().write("{\"message\": \"Token invalid\"}");
                 return;
             }
 
-            var userDetails = jwtUtil.validateTokenAndGetUserDetails(token);
+            var userDetails = verification.isValid() ? jwtUtil.getUserDetails(verification.claims()) : null;
 
             if (userDetails != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 var authToken = jwtUtil.getAuthentication(userDetails, request);
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
-                logger.info("Authenticated request for user: {}", userDetails.getUsername());
+                logger.info(LogMarkers.SAMPLED, "Authenticated request");
             }
         } else if (authHeader != null) {
             logger.warn("Invalid Authorization header format.");
@@ -1,7 +1,10 @@
 package com.example.backend.security;
 
 import io.jsonwebtoken.*;
-import io.github.cdimascio.dotenv.Dotenv;
+import com.example.backend.config.AppProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
@@ -11,37 +14,78 @@ import jakarta.servlet.http.HttpServletRequest;
 import java.util.Collections;
 import java.util.Date;
 
+/**
+ * Issues and verifies RS256 access tokens. Tokens name their signing key in the {@code kid}
+ * header, so other services can verify them against the published JWK set.
+ */
 @Component
 public class JwtUtil {
 
-    private final Dotenv dotenv = Dotenv.load();
+    private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
 
-    private final String SECRET_KEY = dotenv.get("JWT_SECRET");
-    private final long EXPIRATION_TIME = Long.parseLong(dotenv.get("JWT_EXPIRATION_MS"));
+    public static final String TOKEN_VERSION_CLAIM = "tv";
+
+    // Access tokens are short-lived; sessions are extended with refresh tokens
+    private final long expirationMillis;
+
+    private final JwtKeyRing keyRing;
+    // Thread-safe; verification keys are looked up by kid in the key ring
+    private final JwtParser parser;
+
+    public JwtUtil(JwtKeyRing keyRing, AppProperties properties, Environment environment) {
+        if (environment.containsProperty("JWT_EXPIRATION_MS") && !environment.containsProperty("JWT_ACCESS_EXPIRATION_MS")) {
+            logger.warn("JWT_EXPIRATION_MS is deprecated, set JWT_ACCESS_EXPIRATION_MS instead");
+        }
+        this.expirationMillis = properties.jwt().accessExpiration().toMillis();
+        this.keyRing = keyRing;
+        this.parser = Jwts.parserBuilder().setSigningKeyResolver(keyRing).build();
+    }
 
     /**
-     * Generate JWT with id, email, and role.
+     * Generate JWT with id, email, and role, for a user that never revoked their tokens.
      */
     public String generateToken(String id, String email, String role) {
+        return generateToken(id, email, role, 0L);
+    }
+
+    /**
+     * Generate JWT with id, email, role and the user's current token version.
+     */
+    public String generateToken(String id, String email, String role, long tokenVersion) {
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getActiveKid())
                 .setSubject(id)
                 .claim("email", email)
                 .claim("role", role)
+                .claim(TOKEN_VERSION_CLAIM, tokenVersion)
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+                .setExpiration(new Date(System.currentTimeMillis() + expirationMillis))
+                .signWith(keyRing.getSigningKey(), SignatureAlgorithm.RS256)
                 .compact();
     }
 
+    /**
+     * Lifetime of issued access tokens.
+     */
+    public long getExpirationMillis() {
+        return expirationMillis;
+    }
+
     /**
      * Validate the token and return true if valid.
      */
     public boolean validateToken(String token) {
+        return parse(token) != null;
+    }
+
+    /**
+     * Verify the token and return its claims, or null if it is invalid or expired.
+     */
+    public Claims parse(String token) {
         try {
-            Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
+            return extractClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
         }
     }
 
@@ -49,10 +93,7 @@ public class JwtUtil {
      * Extract claims from token.
      */
     public Claims extractClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(SECRET_KEY)
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public String extractUserId(String token) {
@@ -68,15 +109,27 @@ public class JwtUtil {
     }
 
     /**
-     * Build UserDetails from token.
+     * Build UserDetails from token, verifying and decoding it once.
      */
     public org.springframework.security.core.userdetails.UserDetails validateTokenAndGetUserDetails(String token) {
-        if (!validateToken(token)) {
-            return null;
-        }
+        Claims claims = parse(token);
+        return claims == null ? null : getUserDetails(claims);
+    }
 
-        String email = extractEmail(token);
-        String role = extractRole(token);
+    /**
+     * The token version claim; tokens issued without one count as version 0.
+     */
+    public long extractTokenVersion(Claims claims) {
+        Number version = claims.get(TOKEN_VERSION_CLAIM, Number.class);
+        return version == null ? 0L : version.longValue();
+    }
+
+    /**
+     * Build UserDetails from verified claims.
+     */
+    public org.springframework.security.core.userdetails.UserDetails getUserDetails(Claims claims) {
+        String email = claims.get("email", String.class);
+        String role = claims.get("role", String.class);
 
         return new User(
                 email, 
@@ -0,0 +1,154 @@
+package com.example.backend.security;
+
+import com.example.backend.config.AppProperties;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Per-client and per-account rate limiting for the credential endpoints.
+ *
+ * Sign-in and sign-up each cost a BCrypt hash, so both are limited by client IP and by the
+ * target email before the request reaches the controller. Limits are configured as
+ * {@code <requests>/<seconds>}, e.g. {@code RATE_LIMIT_SIGNIN_IP=30/60}.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    // The email field is expected near the start of the body; larger bodies are only IP limited
+    private static final int MAX_BODY_PREFIX = 4096;
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final Map<String, RouteLimits> routes;
+
+    public RateLimitFilter(AppProperties properties) {
+        AppProperties.RateLimit limits = properties.rateLimit();
+        int maxKeys = limits.maxKeys();
+        this.routes = Map.of(
+                "/auth/signin", new RouteLimits(
+                        limiter(limits.signinIp(), maxKeys),
+                        limiter(limits.signinEmail(), maxKeys)),
+                "/auth/signup", new RouteLimits(
+                        limiter(limits.signupIp(), maxKeys),
+                        limiter(limits.signupEmail(), maxKeys))
+        );
+    }
+
+    /**
+     * Only POSTs to the limited routes are inspected.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !routes.containsKey(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RouteLimits limits = routes.get(request.getRequestURI());
+
+        long waitNanos = limits.perClient().tryAcquire(request.getRemoteAddr());
+        if (waitNanos > 0) {
+            logger.warn("Rate limit exceeded {} {}", kv("route", request.getRequestURI()), kv("key", "client"));
+            reject(response, waitNanos);
+            return;
+        }
+
+        BodyPrefixRequestWrapper wrapped = new BodyPrefixRequestWrapper(request, MAX_BODY_PREFIX);
+        String email = extractEmail(wrapped.getPrefix());
+        if (email != null) {
+            waitNanos = limits.perAccount().tryAcquire(email);
+            if (waitNanos > 0) {
+                logger.warn("Rate limit exceeded {} {}", kv("route", request.getRequestURI()), kv("key", "account"));
+                reject(response, waitNanos);
+                return;
+            }
+        }
+
+        filterChain.doFilter(wrapped, response);
+    }
+
+    /**
+     * Clears all buckets.
+     */
+    public void reset() {
+        routes.values().forEach(limits -> {
+            limits.perClient().clear();
+            limits.perAccount().clear();
+        });
+    }
+
+    /**
+     * Clears the buckets of one client address and the given accounts, e.g. after synthetic
+     * traffic, leaving every other client's limits in place.
+     */
+    public void reset(String client, Collection<String> emails) {
+        routes.values().forEach(limits -> {
+            limits.perClient().remove(client);
+            emails.forEach(email -> limits.perAccount().remove(email.trim().toLowerCase(Locale.ROOT)));
+        });
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setStatus(429);
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType("application/json");
+        response.getWriter().write("{\"message\": \"Too many requests\"}");
+    }
+
+    /**
+     * Reads the top-level "email" string from a (possibly truncated) JSON body prefix.
+     */
+    static String extractEmail(byte[] body) {
+        try (JsonParser parser = JSON.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("email".equals(field) && value == JsonToken.VALUE_STRING) {
+                    String email = parser.getText().trim();
+                    return email.isEmpty() ? null : email.toLowerCase(Locale.ROOT);
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            // Malformed or truncated before the email field: validation rejects it downstream
+            return null;
+        }
+    }
+
+    private static TokenBucketLimiter limiter(String spec, int maxKeys) {
+        String[] parts = spec.split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid rate limit '" + spec + "', expected <requests>/<seconds>");
+        }
+        return new TokenBucketLimiter(
+                Integer.parseInt(parts[0].trim()), Long.parseLong(parts[1].trim()), TimeUnit.SECONDS, maxKeys);
+    }
+
+    private record RouteLimits(TokenBucketLimiter perClient, TokenBucketLimiter perAccount) {}
+}
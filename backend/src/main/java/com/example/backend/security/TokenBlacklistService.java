@@ -2,20 +2,40 @@ package com.example.backend.security;
 
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
+import java.util.Date;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Revoked access tokens, each kept only until it would have expired anyway.
+ */
 @Service
 public class TokenBlacklistService {
 
-    private final Set<String> blacklist = ConcurrentHashMap.newKeySet();
+    private static final long PURGE_INTERVAL_MS = 60_000;
 
-    public void blacklistToken(String token) {
-        blacklist.add(token);
+    // Token -> its expiry in epoch millis
+    private final Map<String, Long> blacklist = new ConcurrentHashMap<>();
+    private volatile long nextPurge;
+
+    public void blacklistToken(String token, Date expiresAt) {
+        long now = System.currentTimeMillis();
+        if (expiresAt.getTime() > now) {
+            blacklist.put(token, expiresAt.getTime());
+        }
+        if (now >= nextPurge) {
+            nextPurge = now + PURGE_INTERVAL_MS;
+            blacklist.values().removeIf(expiry -> expiry <= now);
+        }
     }
 
     public boolean isTokenBlacklisted(String token) {
-        return blacklist.contains(token);
+        Long expiry = blacklist.get(token);
+        return expiry != null && expiry > System.currentTimeMillis();
+    }
+
+    public int size() {
+        return blacklist.size();
     }
 
     // To clear the blacklist between tests
@@ -0,0 +1,102 @@
+package com.example.backend.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token buckets keyed by an arbitrary string (client IP, account email, ...).
+ *
+ * Each bucket is stored as a single "theoretical arrival time" (GCRA), which behaves exactly like
+ * a token bucket holding {@code capacity} tokens refilled evenly over {@code period}, but can be
+ * updated with one CAS. Buckets whose arrival time has passed are full again and carry no state,
+ * so they are evicted when the map grows past {@code maxKeys} or on a periodic sweep.
+ */
+public class TokenBucketLimiter {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+
+    public TokenBucketLimiter(int capacity, long period, TimeUnit unit, int maxKeys) {
+        if (capacity < 1 || period < 1) {
+            throw new IllegalArgumentException("Capacity and period must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1, unit.toNanos(period) / capacity);
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Takes one token for {@code key}.
+     *
+     * @return 0 if the request is allowed, otherwise the nanoseconds until a token is available.
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        maybeSweep(now);
+
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                sweep(now);
+                if (buckets.size() >= maxKeys) {
+                    // Every tracked key is actively limited; fail open rather than grow without bound
+                    return 0;
+                }
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, now) + emissionIntervalNanos;
+            long excess = newTat - now - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    public void clear() {
+        buckets.clear();
+    }
+
+    /**
+     * Forgets the bucket of one key, which starts out full again.
+     */
+    public void remove(String key) {
+        buckets.remove(key);
+    }
+
+    private void maybeSweep(long now) {
+        long last = lastSweep.get();
+        if (now - last >= SWEEP_INTERVAL_NANOS && lastSweep.compareAndSet(last, now)) {
+            sweep(now);
+        }
+    }
+
+    /**
+     * Drops buckets that have refilled completely. A concurrent acquire on a removed bucket
+     * is simply forgotten, which at worst grants one extra token to an idle key.
+     */
+    private void sweep(long now) {
+        for (Map.Entry<String, AtomicLong> entry : buckets.entrySet()) {
+            if (entry.getValue().get() - now <= 0) {
+                buckets.remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+}
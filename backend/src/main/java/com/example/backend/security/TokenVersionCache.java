@@ -0,0 +1,114 @@
+package com.example.backend.security;
+
+import com.example.backend.config.AppProperties;
+import com.example.backend.model.User;
+import com.example.backend.repository.UserCodec;
+import com.example.backend.repository.UserCollection;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.bson.conversions.Bson;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Current token version per user id, as stored on the user document.
+ *
+ * Access tokens carry the version they were issued under; a token older than the user's
+ * current version is revoked. Entries are reloaded from the primary at most
+ * {@code TOKEN_VERSION_MAX_AGE_SECONDS} after being cached, which bounds how long another
+ * instance may accept a revoked token. The instance that bumps a version sees it immediately.
+ * Ids without a user document have version 0, like users that never signed out everywhere.
+ */
+@Component
+public class TokenVersionCache {
+
+    private static final Bson TOKEN_VERSION = Projections.include("tokenVersion");
+
+    private final MongoTemplate mongoTemplate;
+    private final LoadingCache<String, Long> versions;
+
+    public TokenVersionCache(MongoTemplate mongoTemplate, MeterRegistry meterRegistry, AppProperties properties) {
+        long maxAgeSeconds = properties.tokenVersion().maxAge().toSeconds();
+        long maxUsers = properties.tokenVersion().cacheMaxUsers();
+
+        this.mongoTemplate = mongoTemplate;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofSeconds(maxAgeSeconds))
+                // Hot users are reloaded in the background before their entry expires
+                .refreshAfterWrite(Duration.ofSeconds(Math.max(1, maxAgeSeconds / 2)))
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public Long load(String userId) {
+                        return TokenVersionCache.this.load(userId);
+                    }
+
+                    @Override
+                    public Map<String, Long> loadAll(Set<? extends String> userIds) {
+                        return TokenVersionCache.this.loadAll(userIds);
+                    }
+                });
+
+        CaffeineCacheMetrics.monitor(meterRegistry, versions, "token.versions");
+    }
+
+    /**
+     * Whether a token issued under this version is still valid for the user.
+     */
+    public boolean isCurrent(String userId, long tokenVersion) {
+        return userId != null && tokenVersion >= versions.get(userId);
+    }
+
+    /**
+     * Current versions of several users, loading all missing entries with a single query.
+     */
+    public Map<String, Long> currentVersions(Collection<String> userIds) {
+        return versions.getAll(userIds);
+    }
+
+    /**
+     * Records a version this instance has just written.
+     */
+    public void update(String userId, long tokenVersion) {
+        versions.asMap().merge(userId, tokenVersion, Math::max);
+    }
+
+    public void clear() {
+        versions.invalidateAll();
+    }
+
+    private Long load(String userId) {
+        User user = UserCollection.execute(mongoTemplate, users -> users.find(UserCodec.idFilter(userId))
+                .projection(TOKEN_VERSION)
+                .first());
+        return user == null ? 0L : user.getTokenVersion();
+    }
+
+    private Map<String, Long> loadAll(Set<? extends String> userIds) {
+        Map<String, Long> loaded = new HashMap<>();
+        for (String userId : userIds) {
+            loaded.put(userId, 0L);
+        }
+        List<Object> storedIds = userIds.stream().map(UserCodec::storedId).toList();
+        UserCollection.execute(mongoTemplate, users -> {
+            users.find(Filters.in("_id", storedIds))
+                    .projection(TOKEN_VERSION)
+                    .forEach(user -> loaded.put(user.getId(), user.getTokenVersion()));
+            return null;
+        });
+        return loaded;
+    }
+}
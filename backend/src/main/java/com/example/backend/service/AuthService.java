@@ -1,19 +1,31 @@
 package com.example.backend.service;
 
+import com.example.backend.config.CausalSessionManager;
 import com.example.backend.model.User;
+import com.example.backend.repository.UserCollection;
 import com.example.backend.repository.UserRepository;
 import com.example.backend.security.JwtUtil;
+import com.example.backend.security.TokenVersionCache;
+import com.mongodb.client.ClientSession;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.example.backend.dto.TokenResponse;
 import com.example.backend.dto.UserRequest;
 import com.example.backend.dto.UserResponse;
+import com.example.backend.exception.InvalidCredentialsException;
+import com.example.backend.exception.InvalidRefreshTokenException;
+import com.example.backend.exception.UnknownUserException;
 import com.example.backend.exception.UserAlreadyExistsException;
-import com.example.backend.exception.PayloadTooLargeException;
+import jakarta.annotation.PostConstruct;
+
+import java.util.Optional;
+import java.util.UUID;
 
 /**
- * Authentication handling: sign-in with JWT
+ * Authentication handling: sign-in with a short-lived JWT and a rotating refresh token
  */
 @Service
 public class AuthService {
@@ -27,7 +39,31 @@ public class AuthService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
-    private static final int MAX_PAYLOAD_SIZE = 10_000_000; // 10MB
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private CausalSessionManager causalSessionManager;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TokenVersionCache tokenVersionCache;
+
+    @Autowired
+    private UserStatsService userStatsService;
+
+    // Same encoder and cost as stored hashes, for timing-equivalent checks against unknown emails
+    private String dummyPasswordHash;
+
+    @PostConstruct
+    void initDummyPasswordHash() {
+        dummyPasswordHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
 
     /**
      * Creates a new user with validation, duplicate checking, and password hashing.
@@ -37,10 +73,6 @@ public class AuthService {
      */
     public UserResponse createUser(UserRequest request) {
 
-        if (request.toString().length() > MAX_PAYLOAD_SIZE) {
-            throw new PayloadTooLargeException("Payload too large");
-        }
-
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new UserAlreadyExistsException("Email already exists");
         }
@@ -57,28 +89,73 @@ public class AuthService {
         user.setPassword(passwordEncoder.encode(request.getPassword()));
         user.setRole(role);  // Set default or provided role
 
-        // Save to DB
-        User savedUser = userRepository.save(user);
+        // Save to DB, handing the operation time back so the client can read its own write
+        User savedUser;
+        try (ClientSession session = causalSessionManager.startSession()) {
+            savedUser = UserCollection.execute(mongoTemplate.withSession(session), users -> {
+                users.insertOne(user);
+                return user;
+            });
+            causalSessionManager.publishOperationTime(session);
+        }
+        userStatsService.recordCreated(savedUser);
 
         // Map Entity to Response DTO
-        return new UserResponse(
-            savedUser.getId(),
-            savedUser.getName(),
-            savedUser.getEmail(),
-            savedUser.getRole(),
-            savedUser.getCreated(),
-            savedUser.getUpdated()
-        );
+        return UserResponse.of(savedUser);
     }
 
-    public String authenticate(String email, String password) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    /**
+     * Checks the credentials and issues an access token and a new refresh token family.
+     * Unknown emails still pay for a password check, so they take as long as wrong passwords.
+     *
+     * @throws UnknownUserException        if no user has this email
+     * @throws InvalidCredentialsException if the password does not match
+     */
+    public TokenResponse authenticate(String email, String password) {
+        Optional<User> found = userRepository.findByEmail(email);
+        if (found.isEmpty()) {
+            passwordEncoder.matches(password, dummyPasswordHash);
+            throw UnknownUserException.INSTANCE;
+        }
+        User user = found.get();
 
         if (!passwordEncoder.matches(password, user.getPassword())) {
-            throw new RuntimeException("Invalid credentials");
+            throw InvalidCredentialsException.INSTANCE;
+        }
+
+        return tokens(user, refreshTokenService.issue(user.getId()));
+    }
+
+    /**
+     * Rotates a refresh token and issues a new access token from the user's current details.
+     *
+     * @throws InvalidRefreshTokenException if the token cannot be used, or its user no longer exists
+     */
+    public TokenResponse refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        User user = userRepository.findById(rotation.userId()).orElse(null);
+        if (user == null) {
+            refreshTokenService.revokeAll(rotation.userId());
+            throw InvalidRefreshTokenException.INSTANCE;
         }
+        return tokens(user, rotation.refreshToken());
+    }
 
-        return jwtUtil.generateToken(user.getId(), user.getEmail(), user.getRole());
+    /**
+     * Revokes every session of a user: access tokens through the token version,
+     * refresh tokens by deleting them.
+     */
+    public void signOutEverywhere(String userId) {
+        long tokenVersion = userService.incrementTokenVersion(userId);
+        tokenVersionCache.update(userId, tokenVersion);
+        refreshTokenService.revokeAll(userId);
+    }
+
+    private TokenResponse tokens(User user, String refreshToken) {
+        return new TokenResponse(
+            jwtUtil.generateToken(user.getId(), user.getEmail(), user.getRole(), user.getTokenVersion()),
+            refreshToken,
+            jwtUtil.getExpirationMillis() / 1000
+        );
     }
 }
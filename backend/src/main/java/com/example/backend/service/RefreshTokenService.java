@@ -0,0 +1,134 @@
+package com.example.backend.service;
+
+import com.example.backend.config.AppProperties;
+import com.example.backend.exception.InvalidRefreshTokenException;
+import com.example.backend.model.RefreshToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Issues and rotates refresh tokens.
+ *
+ * Tokens are 256-bit random strings handed to the client once; the database only holds their
+ * hash. Each refresh marks the presented token as used and issues a new one in the same family.
+ * A used token presented again means it was copied, so the whole family is revoked and both
+ * holders have to sign in again.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    private static final Base64.Encoder TOKEN_ENCODING = Base64.getUrlEncoder().withoutPadding();
+
+    private final MongoTemplate mongoTemplate;
+    private final SecureRandom random = new SecureRandom();
+    private final long ttlMillis;
+
+    public RefreshTokenService(MongoTemplate mongoTemplate, AppProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.ttlMillis = properties.jwt().refreshExpiration().toMillis();
+    }
+
+    /**
+     * Result of a rotation: whose token it was, and its replacement.
+     */
+    public record Rotation(String userId, String refreshToken) {}
+
+    /**
+     * Starts a new token family for a fresh sign-in.
+     */
+    public String issue(String userId) {
+        return store(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchanges a refresh token for a new one in the same family.
+     *
+     * @throws InvalidRefreshTokenException if the token is unknown, expired or was already used
+     */
+    public Rotation rotate(String token) {
+        String hash = hash(token);
+        RefreshToken current = mongoTemplate.findAndModify(
+                query(where("_id").is(hash).and("used").is(false).and("expiresAt").gt(new Date())),
+                new Update().set("used", true),
+                FindAndModifyOptions.options().returnNew(false),
+                RefreshToken.class);
+
+        if (current == null) {
+            RefreshToken stale = mongoTemplate.findById(hash, RefreshToken.class);
+            if (stale != null && stale.isUsed()) {
+                revokeFamily(stale.getFamilyId());
+                logger.warn("Refresh token reused, family revoked {}", kv("userId", stale.getUserId()));
+            }
+            throw InvalidRefreshTokenException.INSTANCE;
+        }
+
+        return new Rotation(current.getUserId(), store(current.getUserId(), current.getFamilyId()));
+    }
+
+    /**
+     * Revokes the family a token belongs to, e.g. on sign-out. Unknown tokens are ignored.
+     */
+    public void revoke(String token) {
+        RefreshToken found = mongoTemplate.findById(hash(token), RefreshToken.class);
+        if (found != null) {
+            revokeFamily(found.getFamilyId());
+        }
+    }
+
+    /**
+     * Revokes every refresh token of a user.
+     */
+    public void revokeAll(String userId) {
+        mongoTemplate.remove(query(where("userId").is(userId)), RefreshToken.class);
+    }
+
+    private void revokeFamily(String familyId) {
+        mongoTemplate.remove(query(where("familyId").is(familyId)), RefreshToken.class);
+    }
+
+    private String store(String userId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = TOKEN_ENCODING.encodeToString(bytes);
+
+        Date now = new Date();
+        mongoTemplate.insert(RefreshToken.builder()
+                .id(hash(token))
+                .userId(userId)
+                .familyId(familyId)
+                .created(now)
+                .expiresAt(new Date(now.getTime() + ttlMillis))
+                .build());
+        return token;
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.backend.service;
+
+import com.example.backend.model.User;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+
+import java.io.IOException;
+import java.text.DateFormat;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Transcodes raw user documents straight into JSON, without building a {@link User} first.
+ *
+ * The output matches what Jackson writes for the entity: {@code _id} becomes {@code id} (hex string)
+ * and dates use the date settings of the generator's {@link ObjectMapper}.
+ * Only {@link #FIELDS} are written, so fields added to the document later stay private until listed here;
+ * readers project the same fields.
+ *
+ * Not thread-safe; create one per response.
+ */
+public final class UserJsonTranscoder {
+
+    /** Profile fields written besides the id, in stored order. */
+    static final List<String> FIELDS = List.of("name", "email", "role", "created", "updated");
+
+    private final JsonGenerator generator;
+    // null when dates are written as epoch millis
+    private final DateFormat dateFormat;
+
+    public UserJsonTranscoder(JsonGenerator generator) {
+        this.generator = generator;
+        SerializationConfig config = generator.getCodec() instanceof ObjectMapper mapper
+                ? mapper.getSerializationConfig()
+                : null;
+        this.dateFormat = config == null || config.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                ? null
+                : (DateFormat) config.getDateFormat().clone();
+    }
+
+    /**
+     * Writes one user document as a JSON object.
+     *
+     * @return a stamp holding only the id and update timestamp, enough to compute an ETag
+     */
+    public User write(RawBsonDocument document) throws IOException {
+        User stamp = new User();
+        try (BsonBinaryReader reader = new BsonBinaryReader(document.getByteBuffer().asNIO())) {
+            reader.readStartDocument();
+            generator.writeStartObject();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                String name = reader.readName();
+                if (name.equals("_id")) {
+                    String id = reader.getCurrentBsonType() == BsonType.OBJECT_ID
+                            ? reader.readObjectId().toHexString()
+                            : reader.readString();
+                    stamp.setId(id);
+                    generator.writeStringField("id", id);
+                    continue;
+                }
+                if (name.equals("updated") && reader.getCurrentBsonType() == BsonType.DATE_TIME) {
+                    long updated = reader.readDateTime();
+                    stamp.setUpdated(new Date(updated));
+                    generator.writeFieldName(name);
+                    writeDate(updated);
+                    continue;
+                }
+                if (!FIELDS.contains(name)) {
+                    reader.skipValue();
+                    continue;
+                }
+                generator.writeFieldName(name);
+                writeValue(reader);
+            }
+            reader.readEndDocument();
+            generator.writeEndObject();
+        }
+        return stamp;
+    }
+
+    private void writeValue(BsonBinaryReader reader) throws IOException {
+        switch (reader.getCurrentBsonType()) {
+            case STRING -> generator.writeString(reader.readString());
+            case OBJECT_ID -> generator.writeString(reader.readObjectId().toHexString());
+            case DATE_TIME -> writeDate(reader.readDateTime());
+            case BOOLEAN -> generator.writeBoolean(reader.readBoolean());
+            case INT32 -> generator.writeNumber(reader.readInt32());
+            case INT64 -> generator.writeNumber(reader.readInt64());
+            case DOUBLE -> generator.writeNumber(reader.readDouble());
+            case DECIMAL128 -> generator.writeNumber(reader.readDecimal128().bigDecimalValue());
+            case BINARY -> generator.writeBinary(reader.readBinaryData().getData());
+            case DOCUMENT -> {
+                reader.readStartDocument();
+                generator.writeStartObject();
+                while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    generator.writeFieldName(reader.readName());
+                    writeValue(reader);
+                }
+                reader.readEndDocument();
+                generator.writeEndObject();
+            }
+            case ARRAY -> {
+                reader.readStartArray();
+                generator.writeStartArray();
+                while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    writeValue(reader);
+                }
+                reader.readEndArray();
+                generator.writeEndArray();
+            }
+            case NULL -> {
+                reader.readNull();
+                generator.writeNull();
+            }
+            // Types the user schema never stores
+            default -> {
+                reader.skipValue();
+                generator.writeNull();
+            }
+        }
+    }
+
+    private void writeDate(long millis) throws IOException {
+        if (dateFormat == null) {
+            generator.writeNumber(millis);
+        } else {
+            generator.writeString(dateFormat.format(new Date(millis)));
+        }
+    }
+}
@@ -1,63 +1,303 @@
 package com.example.backend.service;
 
+import com.example.backend.config.AppProperties;
+import com.example.backend.config.CausalSessionManager;
+import com.example.backend.config.MongoIndexInitializer;
+import com.example.backend.dto.UserResponse;
 import com.example.backend.model.User;
 import com.example.backend.dto.UserUpdateRequest;
-import com.example.backend.repository.UserRepository;
 import com.example.backend.exception.UserNotFoundException;
+import com.example.backend.repository.UserCodec;
+import com.example.backend.repository.UserCollection;
+import com.example.backend.repository.UserListQuery;
+import com.example.backend.web.SerializedResponseCache;
+import com.mongodb.ReadPreference;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.Updates;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Service;
 import jakarta.validation.Valid;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * Service to handle business logic for user operations.
+ *
+ * Listing and lookups are served from secondaries; writes go to the primary inside a
+ * causally consistent session so the writer can read its own changes afterwards.
+ * Entities are encoded and decoded by {@link UserCodec} rather than the reflective converter.
  */
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
-    private final UserRepository userRepository;
+    private static final int EXPORT_BATCH_SIZE = 1000;
+
+    private static final Bson VERSION_FIELDS = Projections.include("updated");
+
+    private static final Bson TOKEN_VERSION_FIELDS = Projections.include("tokenVersion");
+
+    // What user reads may return to clients; anything else stays unread unless asked for explicitly
+    private static final Bson PROFILE_FIELDS = Projections.include(UserJsonTranscoder.FIELDS);
+
+    // Sorts after every string that starts with the prefix under ICU collations
+    private static final String PREFIX_UPPER_BOUND = "\uFFFF";
+
+    private static final FindOneAndUpdateOptions RETURN_UPDATED = new FindOneAndUpdateOptions()
+            .returnDocument(ReturnDocument.AFTER);
+
+    private final MongoTemplate mongoTemplate;
+    private final CausalSessionManager causalSessionManager;
+    private final ReadPreference userReadPreference;
+    private final SerializedResponseCache responseCache;
+    private final RefreshTokenService refreshTokenService;
+    private final AppProperties properties;
+    private final UserStatsService userStatsService;
+
+    public enum SearchMode { AUTO, PREFIX, TEXT }
 
     /**
      * Retrieves paginated list of users.
      *
+     * @param query Filters, order and index of the listing
      * @param page  Page number (starting from 0)
      * @param limit Number of users per page
      * @return List of users
      */
-    public List<User> getUsers(int page, int limit) {
-        return userRepository.findAll()
-                .stream()
-                .skip((long) page * limit)
+    public List<User> getUsers(UserListQuery query, int page, int limit) {
+        return read(ops -> UserCollection.execute(ops, users -> users.withReadPreference(userReadPreference)
+                .find(query.filter())
+                .sort(query.sort())
+                .hint(query.hint())
+                .skip(Math.multiplyExact(page, limit))
                 .limit(limit)
-                .collect(Collectors.toList());
+                .into(new ArrayList<>())));
     }
 
     public Optional<User> findById(String id) {
-        return userRepository.findById(id);
+        return Optional.ofNullable(read(ops -> UserCollection.execute(ops, users -> users.withReadPreference(userReadPreference)
+                .find(UserCodec.idFilter(id))
+                .first())));
     }
 
-    public Optional<User> updateUser(String id, @Valid UserUpdateRequest updateRequest) {
-        return userRepository.findById(id).map(user -> {
-            if (updateRequest.getName() != null) {
-                user.setName(updateRequest.getName());
+    /**
+     * Same page as {@link #getUsers(UserListQuery, int, int)}, but only ids and update timestamps.
+     * Enough to validate a client's cached copy without reading full documents.
+     */
+    public List<User> getUserVersions(UserListQuery query, int page, int limit) {
+        return read(ops -> UserCollection.execute(ops, users -> users.withReadPreference(userReadPreference)
+                .find(query.filter())
+                .projection(VERSION_FIELDS)
+                .sort(query.sort())
+                .hint(query.hint())
+                .skip(Math.multiplyExact(page, limit))
+                .limit(limit)
+                .into(new ArrayList<>())));
+    }
+
+    /**
+     * Looks up only the id and update timestamp of a user.
+     */
+    public Optional<User> findVersionById(String id) {
+        return Optional.ofNullable(read(ops -> UserCollection.execute(ops, users -> users.withReadPreference(userReadPreference)
+                .find(UserCodec.idFilter(id))
+                .projection(VERSION_FIELDS)
+                .first())));
+    }
+
+    /**
+     * Writes the same page as {@link #getUsers(UserListQuery, int, int)} as a JSON array, transcoding the raw
+     * documents directly instead of mapping them to {@link User}s. Only profile fields are read.
+     *
+     * @return id and update timestamp of each user written, for the page's ETag
+     */
+    public List<User> writeUsersJson(UserListQuery query, int page, int limit, JsonGenerator generator) {
+        return read(ops -> ops.execute(User.class, collection -> {
+            FindIterable<RawBsonDocument> documents = rawUsers(collection.withDocumentClass(RawBsonDocument.class), query)
+                    .skip(Math.multiplyExact(page, limit))
+                    .limit(limit);
+            UserJsonTranscoder transcoder = new UserJsonTranscoder(generator);
+            List<User> stamps = new ArrayList<>();
+            try (MongoCursor<RawBsonDocument> cursor = documents.iterator()) {
+                generator.writeStartArray();
+                while (cursor.hasNext()) {
+                    stamps.add(transcoder.write(cursor.next()));
+                }
+                generator.writeEndArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return stamps;
+        }));
+    }
+
+    /**
+     * Streams every user as a JSON array, in id order, without materialising entities.
+     *
+     * @return number of users written
+     */
+    public long exportUsersJson(JsonGenerator generator) {
+        return read(ops -> ops.execute(User.class, collection -> {
+            UserJsonTranscoder transcoder = new UserJsonTranscoder(generator);
+            long count = 0;
+            try (MongoCursor<RawBsonDocument> cursor = rawUsers(collection.withDocumentClass(RawBsonDocument.class), UserListQuery.DEFAULT)
+                    .batchSize(EXPORT_BATCH_SIZE)
+                    .iterator()) {
+                generator.writeStartArray();
+                while (cursor.hasNext()) {
+                    transcoder.write(cursor.next());
+                    count++;
+                }
+                generator.writeEndArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
-            if (updateRequest.getEmail() != null) {
-                user.setEmail(updateRequest.getEmail());
+            return count;
+        }));
+    }
+
+    /**
+     * Finds users by email or name prefix, by free text, or both, without ever scanning the collection.
+     *
+     * Prefix matching is case-insensitive: a range query under the collation of the {@code email_ci} and
+     * {@code name_ci} indexes, which each query is pinned to with a hint, so a missing index fails the
+     * query instead of falling back to a collection scan. Text matching uses the text index
+     * (a {@code $text} query cannot run without one) and is ordered by relevance.
+     * {@link SearchMode#AUTO} lists prefix matches first, emails before names, then fills up with text matches.
+     * Only profile fields are read.
+     *
+     * @param query a literal fragment, never interpreted as a pattern
+     */
+    public List<UserResponse> searchUsers(String query, SearchMode mode, int limit) {
+        long maxTimeMs = properties.search().maxTime().toMillis();
+        Map<String, User> found = new LinkedHashMap<>();
+        read(ops -> UserCollection.execute(ops, users -> {
+            MongoCollection<User> replica = users.withReadPreference(userReadPreference);
+            if (mode != SearchMode.TEXT) {
+                for (String field : List.of("email", "name")) {
+                    if (found.size() >= limit) {
+                        break;
+                    }
+                    replica.find(Filters.and(Filters.gte(field, query), Filters.lt(field, query + PREFIX_UPPER_BOUND)))
+                            .collation(MongoIndexInitializer.CASE_INSENSITIVE)
+                            .hintString(field + MongoIndexInitializer.CASE_INSENSITIVE_SUFFIX)
+                            .projection(PROFILE_FIELDS)
+                            .sort(Sorts.ascending(field))
+                            .limit(limit)
+                            .maxTime(maxTimeMs, TimeUnit.MILLISECONDS)
+                            .forEach(user -> found.putIfAbsent(user.getId(), user));
+                }
+            }
+            if (mode != SearchMode.PREFIX && found.size() < limit) {
+                replica.find(Filters.text(query))
+                        .projection(PROFILE_FIELDS)
+                        .sort(Sorts.metaTextScore("score"))
+                        .limit(limit)
+                        .maxTime(maxTimeMs, TimeUnit.MILLISECONDS)
+                        .forEach(user -> found.putIfAbsent(user.getId(), user));
             }
-            user.setUpdated(new Date());
-            return userRepository.save(user);
-        });
+            return null;
+        }));
+        return found.values().stream()
+                .limit(limit)
+                .map(UserResponse::of)
+                .toList();
+    }
+
+    /**
+     * Applies the changed fields in place, so concurrent writes to other fields
+     * (such as a token version bump) are not overwritten.
+     */
+    public Optional<User> updateUser(String id, @Valid UserUpdateRequest updateRequest) {
+        List<Bson> changes = new ArrayList<>();
+        if (updateRequest.getName() != null) {
+            changes.add(Updates.set("name", updateRequest.getName()));
+        }
+        if (updateRequest.getEmail() != null) {
+            changes.add(Updates.set("email", updateRequest.getEmail()));
+            changes.add(Updates.set("emailDomain", User.emailDomainOf(updateRequest.getEmail())));
+        }
+        changes.add(Updates.set("updated", new Date()));
+
+        User updated = write(ops -> UserCollection.execute(ops, users ->
+                users.findOneAndUpdate(UserCodec.idFilter(id), Updates.combine(changes), RETURN_UPDATED)));
+        responseCache.invalidate(id);
+        return Optional.ofNullable(updated);
+    }
+
+    /**
+     * Increments the user's token version, revoking every access token issued before.
+     *
+     * @return the new version
+     * @throws UserNotFoundException if the user does not exist
+     */
+    public long incrementTokenVersion(String id) {
+        User updated = write(ops -> UserCollection.execute(ops, users ->
+                users.findOneAndUpdate(UserCodec.idFilter(id), Updates.inc("tokenVersion", 1L),
+                        new FindOneAndUpdateOptions().projection(TOKEN_VERSION_FIELDS).returnDocument(ReturnDocument.AFTER))));
+        if (updated == null) {
+            throw new UserNotFoundException("User not found");
+        }
+        return updated.getTokenVersion();
     }
 
     public void deleteUser(String id) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
+        User deleted = write(ops -> UserCollection.execute(ops, users -> users.findOneAndDelete(UserCodec.idFilter(id))));
+        responseCache.invalidate(id);
+        if (deleted == null) {
+            throw new UserNotFoundException("User not found");
+        }
+        userStatsService.recordDeleted(deleted);
+        refreshTokenService.revokeAll(id);
+    }
+
+    private FindIterable<RawBsonDocument> rawUsers(MongoCollection<RawBsonDocument> collection, UserListQuery query) {
+        return collection.withReadPreference(userReadPreference)
+                .find(query.filter())
+                .projection(PROFILE_FIELDS)
+                .sort(query.sort())
+                .hint(query.hint());
+    }
+
+    /**
+     * Runs a read outside any session unless the client asked to read after a prior write.
+     */
+    private <T> T read(Function<MongoOperations, T> operation) {
+        if (!causalSessionManager.hasReadAfterToken()) {
+            return operation.apply(mongoTemplate);
+        }
+        try (ClientSession session = causalSessionManager.startSession()) {
+            return operation.apply(mongoTemplate.withSession(session));
+        }
+    }
 
-        userRepository.delete(user);
+    private <T> T write(Function<MongoOperations, T> operation) {
+        try (ClientSession session = causalSessionManager.startSession()) {
+            T result = operation.apply(mongoTemplate.withSession(session));
+            causalSessionManager.publishOperationTime(session);
+            return result;
+        }
     }
 }
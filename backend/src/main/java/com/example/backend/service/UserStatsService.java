@@ -0,0 +1,248 @@
+package com.example.backend.service;
+
+import com.example.backend.config.AppProperties;
+import com.example.backend.dto.UserStats;
+import com.example.backend.model.User;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * User statistics served from rollup documents in {@code user_stats} instead of counting users on each request.
+ *
+ * <ul>
+ *   <li>{@code roles}: users per role, under {@code counts.<ROLE>};</li>
+ *   <li>{@code signups:<yyyy-MM-dd>}: users created that UTC day and not deleted since.</li>
+ * </ul>
+ * Creations and deletions adjust them with {@code $inc}. These updates are not part of the user
+ * write: one that fails is logged and left for the reconciliation. Every
+ * {@code STATS_RECONCILE_INTERVAL_MS}, one instance holding a lease recounts roles and the last
+ * {@code STATS_DAYS} days from the users themselves and overwrites the rollups, correcting any
+ * drift. The total is the collection's metadata count, which needs no scan.
+ */
+@Service
+public class UserStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStatsService.class);
+
+    static final String COLLECTION = "user_stats";
+    static final String ROLES_ID = "roles";
+    static final String SIGNUPS_PREFIX = "signups:";
+    static final String RECONCILIATION_ID = "reconciliation";
+
+    private static final UpdateOptions UPSERT = new UpdateOptions().upsert(true);
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration reconcileInterval;
+    private final int days;
+    private final Counter drift;
+
+    public UserStatsService(MongoTemplate mongoTemplate, AppProperties properties, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.reconcileInterval = properties.stats().reconcileInterval();
+        this.days = properties.stats().days();
+        this.drift = Counter.builder("users.stats.drift")
+                .description("Corrections applied to user statistics by reconciliation")
+                .register(meterRegistry);
+    }
+
+    public void recordCreated(User user) {
+        adjust(user, 1);
+    }
+
+    public void recordDeleted(User user) {
+        adjust(user, -1);
+    }
+
+    /**
+     * @param days number of days of signups, ending today; at most {@code STATS_DAYS}
+     */
+    public UserStats stats(int days) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate first = today.minusDays(Math.min(days, this.days) - 1L);
+
+        Map<String, Long> signups = new HashMap<>();
+        for (Document day : stats().find(Filters.and(
+                Filters.gte("_id", SIGNUPS_PREFIX + first), Filters.lte("_id", SIGNUPS_PREFIX + today)))) {
+            signups.put(day.getString("_id").substring(SIGNUPS_PREFIX.length()), count(day.get("count")));
+        }
+        List<UserStats.DailySignups> perDay = new ArrayList<>();
+        for (LocalDate day = first; !day.isAfter(today); day = day.plusDays(1)) {
+            perDay.add(new UserStats.DailySignups(day.toString(), signups.getOrDefault(day.toString(), 0L)));
+        }
+
+        Map<String, Long> byRole = new TreeMap<>();
+        Document roles = stats().find(Filters.eq("_id", ROLES_ID)).first();
+        if (roles != null && roles.get("counts") instanceof Document counts) {
+            counts.forEach((role, value) -> byRole.put(role, count(value)));
+        }
+        Document reconciliation = stats().find(Filters.eq("_id", RECONCILIATION_ID)).first();
+
+        return new UserStats(users().estimatedDocumentCount(), byRole, perDay,
+                reconciliation == null ? null : reconciliation.getDate("completedAt"));
+    }
+
+    /**
+     * Recounts from the users collection unless another instance holds the lease or reconciled recently.
+     * Increments landing while the recount runs may be counted twice or not at all; the next run corrects them.
+     */
+    @Scheduled(initialDelayString = "${app.stats.reconcile-initial-delay}", fixedDelayString = "${app.stats.reconcile-interval}")
+    public void reconcile() {
+        try {
+            if (!acquireLease()) {
+                return;
+            }
+            long start = System.nanoTime();
+            long corrected = reconcileRoles() + reconcileSignups();
+            stats().updateOne(Filters.eq("_id", RECONCILIATION_ID), Updates.set("completedAt", new Date()));
+            drift.increment(corrected);
+            logger.info("User statistics reconciled {} {}", kv("corrected", corrected),
+                    kv("durationMs", Duration.ofNanos(System.nanoTime() - start).toMillis()));
+        } catch (RuntimeException e) {
+            logger.warn("User statistics reconciliation failed", e);
+        }
+    }
+
+    private void adjust(User user, int delta) {
+        try {
+            stats().updateOne(Filters.eq("_id", ROLES_ID), Updates.inc("counts." + roleKey(user.getRole()), delta), UPSERT);
+            if (user.getCreated() != null) {
+                stats().updateOne(Filters.eq("_id", signupsId(dayOf(user.getCreated()))), Updates.inc("count", delta), UPSERT);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not update user statistics {} {}", kv("userId", user.getId()), kv("delta", delta), e);
+        }
+    }
+
+    private long reconcileRoles() {
+        Map<String, Long> actual = new TreeMap<>();
+        for (Document group : users().aggregate(List.of(Aggregates.group("$role", Accumulators.sum("n", 1))))) {
+            actual.merge(roleKey(group.getString("_id")), count(group.get("n")), Long::sum);
+        }
+
+        Document stored = stats().find(Filters.eq("_id", ROLES_ID)).first();
+        Document counts = stored != null && stored.get("counts") instanceof Document d ? d : new Document();
+        long corrected = 0;
+        Set<String> roles = new HashSet<>(actual.keySet());
+        roles.addAll(counts.keySet());
+        for (String role : roles) {
+            corrected += Math.abs(actual.getOrDefault(role, 0L) - count(counts.get(role)));
+        }
+        Document replacement = new Document("_id", ROLES_ID).append("counts", new Document(new HashMap<>(actual)));
+        stats().replaceOne(Filters.eq("_id", ROLES_ID), replacement, new ReplaceOptions().upsert(true));
+        return corrected;
+    }
+
+    private long reconcileSignups() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate first = today.minusDays(days - 1L);
+        Date from = Date.from(first.atStartOfDay(ZoneOffset.UTC).toInstant());
+
+        Map<String, Long> actual = new HashMap<>();
+        for (Document group : users().aggregate(List.of(
+                Aggregates.match(Filters.gte("created", from)),
+                Aggregates.group(new Document("$dateToString",
+                        new Document("format", "%Y-%m-%d").append("date", "$created")), Accumulators.sum("n", 1))))) {
+            actual.put(group.getString("_id"), count(group.get("n")));
+        }
+
+        Map<String, Long> stored = new HashMap<>();
+        for (Document day : stats().find(Filters.and(
+                Filters.gte("_id", SIGNUPS_PREFIX + first), Filters.lte("_id", SIGNUPS_PREFIX + today)))) {
+            stored.put(day.getString("_id").substring(SIGNUPS_PREFIX.length()), count(day.get("count")));
+        }
+
+        long corrected = 0;
+        for (LocalDate day = first; !day.isAfter(today); day = day.plusDays(1)) {
+            long count = actual.getOrDefault(day.toString(), 0L);
+            long difference = count - stored.getOrDefault(day.toString(), 0L);
+            if (difference != 0) {
+                corrected += Math.abs(difference);
+                stats().updateOne(Filters.eq("_id", signupsId(day)), Updates.set("count", count), UPSERT);
+            }
+        }
+        return corrected;
+    }
+
+    /**
+     * Takes the reconciliation lease for half an interval, unless it is held or the last run is
+     * less than half an interval old. Instances racing for a missing lease document are settled by
+     * the unique {@code _id}.
+     */
+    private boolean acquireLease() {
+        Instant now = Instant.now();
+        Duration half = reconcileInterval.dividedBy(2);
+        try {
+            // Upserts when there is no lease document yet; fails on the unique _id when it does not match
+            stats().findOneAndUpdate(
+                    Filters.and(
+                            Filters.eq("_id", RECONCILIATION_ID),
+                            Filters.or(Filters.exists("lockedUntil", false), Filters.lt("lockedUntil", Date.from(now))),
+                            Filters.or(Filters.exists("completedAt", false), Filters.lt("completedAt", Date.from(now.minus(half))))),
+                    Updates.set("lockedUntil", Date.from(now.plus(half))),
+                    new FindOneAndUpdateOptions().upsert(true));
+            return true;
+        } catch (MongoException e) {
+            if (ErrorCategory.fromErrorCode(e.getCode()) == ErrorCategory.DUPLICATE_KEY) {
+                // The lease document exists and is held, or was renewed recently
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private MongoCollection<Document> stats() {
+        return mongoTemplate.getCollection(COLLECTION);
+    }
+
+    private MongoCollection<Document> users() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(User.class));
+    }
+
+    private static String signupsId(LocalDate day) {
+        return SIGNUPS_PREFIX + day;
+    }
+
+    private static LocalDate dayOf(Date date) {
+        return date.toInstant().atZone(ZoneOffset.UTC).toLocalDate();
+    }
+
+    // Roles become field names: no dots or leading dollars
+    private static String roleKey(String role) {
+        return role == null || role.isEmpty() ? "NONE" : role.replace('.', '_').replace('$', '_');
+    }
+
+    private static long count(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+}
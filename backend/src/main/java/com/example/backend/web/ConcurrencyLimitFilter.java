@@ -0,0 +1,124 @@
+package com.example.backend.web;
+
+import com.example.backend.config.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Adaptive concurrency limiting in front of the API.
+ *
+ * Runs ahead of the security chain so shed requests cost almost nothing: when in-flight requests
+ * reach the share of the limit allowed for the request's {@link RequestPriority}, it is rejected
+ * with 503 straight away instead of waiting in Tomcat's queue. The limit itself follows observed
+ * latency (see {@link GradientConcurrencyLimit}).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private final GradientConcurrencyLimit limit;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Map<RequestPriority, Counter> shed = new EnumMap<>(RequestPriority.class);
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry, AppProperties properties) {
+        AppProperties.Concurrency bounds = properties.concurrency();
+        this.limit = new GradientConcurrencyLimit(bounds.initial(), bounds.min(), bounds.max());
+
+        Gauge.builder("http.server.concurrency.limit", limit, GradientConcurrencyLimit::getLimit)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("http.server.concurrency.inflight", inflight, AtomicInteger::get)
+                .description("Requests currently admitted by the concurrency limiter")
+                .register(meterRegistry);
+        for (RequestPriority priority : RequestPriority.values()) {
+            shed.put(priority, Counter.builder("http.server.requests.shed")
+                    .description("Requests rejected by the concurrency limiter")
+                    .tag("priority", priority.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Only API, auth and internal traffic is limited; docs and management endpoints pass through.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !(path.startsWith("/api/") || path.startsWith("/auth/") || path.startsWith("/internal/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RequestPriority priority = RequestPriority.of(request);
+        int admittedAt = tryAcquire(priority.admissionThreshold(limit.getLimit()));
+        if (admittedAt < 0) {
+            shed.get(priority).increment();
+            logger.warn("Request shed {} {}", kv("priority", priority), kv("limit", limit.getLimit()));
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            response.setContentType("application/json");
+            response.getWriter().write("{\"message\": \"Service overloaded\"}");
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            inflight.decrementAndGet();
+            limit.onSample(System.nanoTime() - start, admittedAt);
+        }
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * Forgets learned latencies, e.g. after synthetic warm-up traffic.
+     */
+    public void reset() {
+        limit.reset();
+    }
+
+    /**
+     * @return in-flight count including this request, or -1 if the threshold is reached
+     */
+    private int tryAcquire(int threshold) {
+        while (true) {
+            int current = inflight.get();
+            if (current >= threshold) {
+                return -1;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+}
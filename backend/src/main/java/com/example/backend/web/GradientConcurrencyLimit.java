@@ -0,0 +1,77 @@
+package com.example.backend.web;
+
+/**
+ * Latency-driven concurrency limit in the style of Netflix's Gradient2.
+ *
+ * Two moving averages of request latency are kept: a short one tracking current conditions and
+ * a long one approximating latency without queueing. When the short average rises above the
+ * long one (requests are queueing somewhere downstream, e.g. Mongo), the limit shrinks in
+ * proportion; while they agree, the limit grows by roughly sqrt(limit) per sample.
+ */
+public class GradientConcurrencyLimit {
+
+    private static final double SHORT_ALPHA = 0.1;
+    private static final double LONG_ALPHA = 0.005;
+    // How much the short average may exceed the long one before the limit backs off
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int initialLimit;
+
+    private double estimatedLimit;
+    private double shortRtt;
+    private double longRtt;
+    private volatile int limit;
+
+    public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Expected 1 <= min <= initial <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.initialLimit = initialLimit;
+        reset();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Records a completed request.
+     *
+     * @param rttNanos latency of the request
+     * @param inflight requests in flight when it was admitted
+     */
+    public synchronized void onSample(long rttNanos, int inflight) {
+        double rtt = rttNanos;
+        shortRtt = shortRtt == 0 ? rtt : shortRtt + SHORT_ALPHA * (rtt - shortRtt);
+        longRtt = longRtt == 0 ? rtt : longRtt + LONG_ALPHA * (rtt - longRtt);
+
+        // After a sustained slowdown the long average lags behind; pull it back once load clears
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        // Application limited: the current limit was not the bottleneck, so it says nothing
+        if (inflight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public synchronized void reset() {
+        estimatedLimit = initialLimit;
+        shortRtt = 0;
+        longRtt = 0;
+        limit = initialLimit;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.backend.web;
+
+import com.example.backend.config.AppProperties;
+import com.example.backend.exception.PayloadTooLargeException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Per-route request body limits, enforced before anything reads the body.
+ *
+ * A declared Content-Length over the limit is refused without reading a byte; otherwise the body
+ * is counted while it streams and reading fails once the limit is passed. Either way the client
+ * gets the usual 413 from {@code GlobalExceptionHandler}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class RequestBodyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestBodyLimitFilter.class);
+
+    private final HandlerExceptionResolver handlerExceptionResolver;
+    private final long authLimit;
+    private final long usersLimit;
+    private final long internalLimit;
+    private final long defaultLimit;
+
+    public RequestBodyLimitFilter(@Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver,
+                                  AppProperties properties) {
+        AppProperties.BodyLimit limits = properties.bodyLimit();
+        this.handlerExceptionResolver = handlerExceptionResolver;
+        // Sign-in/up and user updates carry a handful of fields capped at 255 characters
+        this.authLimit = limits.auth().toBytes();
+        this.usersLimit = limits.users().toBytes();
+        // Batch introspection: up to 100 tokens of well under 1 KiB each
+        this.internalLimit = limits.internal().toBytes();
+        this.defaultLimit = limits.fallback().toBytes();
+    }
+
+    private long limitFor(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (path.startsWith("/auth/")) {
+            return authLimit;
+        }
+        if (path.startsWith("/api/users")) {
+            return usersLimit;
+        }
+        if (path.startsWith("/internal/")) {
+            return internalLimit;
+        }
+        return defaultLimit;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        long limit = limitFor(request);
+        if (request.getContentLengthLong() > limit) {
+            reject(request, response, limit);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(new SizeLimitedRequestWrapper(request, limit), response);
+        } catch (PayloadTooLargeException e) {
+            // Raised while a filter (not a controller) was reading the body
+            if (response.isCommitted()) {
+                throw e;
+            }
+            reject(request, response, limit);
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long limit) {
+        logger.warn("Request body too large {} {} {}", kv("path", request.getRequestURI()),
+                kv("contentLength", request.getContentLengthLong()), kv("limit", limit));
+        // The rest of the body is not read, so the connection cannot be reused
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        handlerExceptionResolver.resolveException(request, response, null, new PayloadTooLargeException("Payload too large"));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.backend.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.regex.Pattern;
+
+/**
+ * Admission classes for load shedding. Each class may only use a share of the concurrency
+ * limit, so as the server saturates the expensive classes are shed first.
+ */
+public enum RequestPriority {
+
+    /** Cheap authenticated reads, sign-out and token refresh. */
+    HIGH(1.0),
+    /** Writes and anything not classified otherwise. */
+    NORMAL(0.9),
+    /** BCrypt-bound credential checks, collection listings, searches and exports. */
+    LOW(0.75);
+
+    private static final Pattern USER_BY_ID = Pattern.compile("^/api/users/[a-fA-F0-9]{24}$");
+
+    private final double share;
+
+    RequestPriority(double share) {
+        this.share = share;
+    }
+
+    /**
+     * Requests of this class are admitted while in-flight requests stay below this threshold.
+     */
+    public int admissionThreshold(int limit) {
+        return Math.max(1, (int) (limit * share));
+    }
+
+    public static RequestPriority of(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = request.getRequestURI();
+
+        if ("POST".equals(method) && (path.equals("/auth/signin") || path.equals("/auth/signup"))) {
+            return LOW;
+        }
+        if ("GET".equals(method) && (path.equals("/api/users") || path.equals("/api/users/export")
+                || path.equals("/api/users/search"))) {
+            return LOW;
+        }
+        if ("GET".equals(method) && USER_BY_ID.matcher(path).matches()) {
+            return HIGH;
+        }
+        if (path.equals("/auth/signout") || path.equals("/auth/refresh")) {
+            return HIGH;
+        }
+        return NORMAL;
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.backend.web;
+
+import com.example.backend.config.AppProperties;
+import com.example.backend.config.UserProtobufHttpMessageConverter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationStrategy;
+import org.springframework.web.accept.HeaderContentNegotiationStrategy;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of encoded response bodies, so hot documents are not re-serialised on every read.
+ *
+ * Entries are keyed by document id and media type and remember the version they were encoded
+ * from; a lookup with another version re-encodes. Capacity is accounted in bytes, not entries.
+ * Bodies are produced by the application's own message converters, so a cached response is
+ * byte-for-byte what the regular path would have written.
+ */
+@Component
+public class SerializedResponseCache {
+
+    public static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    /** Formats served from the cache, in order of preference when the client accepts several. */
+    public static final List<MediaType> FORMATS = List.of(
+            MediaType.APPLICATION_JSON, SMILE, MediaType.APPLICATION_CBOR, UserProtobufHttpMessageConverter.PROTOBUF);
+
+    // Key, entry and the cache's node per mapping, roughly
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    private static final ContentNegotiationStrategy ACCEPT_HEADER = new HeaderContentNegotiationStrategy();
+
+    record Key(String id, MediaType format) {}
+
+    record Encoded(long version, byte[] body) {}
+
+    private final Cache<Key, Encoded> cache;
+    private final ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter;
+    private final Map<MediaType, HttpMessageConverter<Object>> converters = new ConcurrentHashMap<>();
+
+    public SerializedResponseCache(ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter, MeterRegistry meterRegistry,
+                                   AppProperties properties) {
+        long maxBytes = properties.responseCache().maxSize().toBytes();
+
+        this.handlerAdapter = handlerAdapter;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, Encoded encoded) -> ENTRY_OVERHEAD_BYTES + 2 * key.id().length() + encoded.body().length)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.responses");
+        Gauge.builder("cache.weighted.bytes", this, SerializedResponseCache::weightedSize)
+                .description("Bytes held by the cache, including per-entry overhead")
+                .tag("cache", "user.responses")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The format content negotiation picks from {@link #FORMATS} for this request's Accept header,
+     * or null when none is acceptable (the regular converter path then answers, e.g. with 406).
+     */
+    public static MediaType negotiate(NativeWebRequest request) {
+        List<MediaType> acceptable;
+        try {
+            // Sorted by quality, then specificity
+            acceptable = ACCEPT_HEADER.resolveMediaTypes(request);
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            return null;
+        }
+        for (MediaType accepted : acceptable) {
+            if (accepted.getQualityValue() == 0) {
+                continue;
+            }
+            for (MediaType format : FORMATS) {
+                if (accepted.isCompatibleWith(format)) {
+                    return format;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the encoded body for this document version, encoding and caching it on a miss.
+     */
+    public byte[] get(String id, long version, MediaType format, Object body) throws IOException {
+        Key key = new Key(id, format);
+        Encoded cached = cache.getIfPresent(key);
+        if (cached != null && cached.version() == version) {
+            return cached.body();
+        }
+
+        byte[] encoded = encode(body, format);
+        // A slow reader holding an older version must not replace a newer entry
+        cache.asMap().merge(key, new Encoded(version, encoded),
+                (current, fresh) -> fresh.version() >= current.version() ? fresh : current);
+        return encoded;
+    }
+
+    /**
+     * Drops every encoded form of a document.
+     */
+    public void invalidate(String id) {
+        for (MediaType format : FORMATS) {
+            cache.invalidate(new Key(id, format));
+        }
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Current size in bytes, after applying pending evictions and removals.
+     */
+    public long weightedSize() {
+        cache.cleanUp();
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0))
+                .orElse(0L);
+    }
+
+    private byte[] encode(Object body, MediaType format) throws IOException {
+        HttpMessageConverter<Object> converter = converters.computeIfAbsent(format, type -> converterFor(body.getClass(), type));
+        BufferedOutputMessage message = new BufferedOutputMessage();
+        converter.write(body, format, message);
+        return message.body.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private HttpMessageConverter<Object> converterFor(Class<?> type, MediaType format) {
+        return (HttpMessageConverter<Object>) handlerAdapter.getObject().getMessageConverters().stream()
+                .filter(converter -> converter.canWrite(type, format))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No converter writes " + type.getSimpleName() + " as " + format));
+    }
+
+    private static final class BufferedOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(512);
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
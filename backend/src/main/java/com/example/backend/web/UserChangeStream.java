@@ -0,0 +1,378 @@
+package com.example.backend.web;
+
+import com.example.backend.config.AppProperties;
+import com.example.backend.dto.UserChangeEvent;
+import com.example.backend.dto.UserResponse;
+import com.example.backend.exception.StreamUnavailableException;
+import com.example.backend.model.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Server-sent events of user changes, fanned out from a single change stream on the users collection.
+ *
+ * One reader thread tails the change stream, started with the first subscriber, and encodes each change
+ * once; every subscriber receives the same frame. Only whitelisted profile fields are projected
+ * server-side, so passwords and token versions never leave the database.
+ *
+ * <ul>
+ *   <li>Event ids are the change stream's resume tokens. The last {@code USER_STREAM_REPLAY_SIZE} events
+ *       are kept, so a client reconnecting with {@code Last-Event-ID} gets what it missed; when its id is
+ *       no longer kept (or came from another instance), it gets a {@code reset} event instead.</li>
+ *   <li>Each subscriber has its own writer thread and a queue of {@code USER_STREAM_SUBSCRIBER_BUFFER}
+ *       events. The reader never waits on a client: a subscriber whose queue is full is disconnected,
+ *       and resumes from its last event when it reconnects.</li>
+ *   <li>If the cursor fails, it is reopened after the last resume token, without gaps. When the oplog no
+ *       longer holds that token, subscribers get a {@code reset} event. Against a server without change
+ *       streams (not a replica set), subscriptions are refused.</li>
+ * </ul>
+ */
+@Component
+public class UserChangeStream {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserChangeStream.class);
+
+    // Server error codes: change streams need a replica set; resume point no longer in the oplog
+    private static final int NOT_A_REPLICA_SET = 40573;
+    private static final int HISTORY_LOST = 286;
+
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    // Profile fields only; _id (the resume token) is kept by the inclusion projection
+    private static final List<Bson> PIPELINE = List.of(
+            Aggregates.match(Filters.in("operationType", "insert", "update", "replace", "delete")),
+            Aggregates.project(Projections.include("operationType", "documentKey",
+                    "fullDocument.name", "fullDocument.email", "fullDocument.role",
+                    "fullDocument.created", "fullDocument.updated")));
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("").build();
+
+    private record Frame(String id, Set<DataWithMediaType> data) {}
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final AppProperties.UserStream properties;
+    private final Set<DataWithMediaType> reset;
+    private final Counter slowDisconnects;
+
+    private final Object lock = new Object();
+    // Guarded by lock
+    private final ArrayDeque<Frame> recent = new ArrayDeque<>();
+    private final List<Subscriber> subscribers = new ArrayList<>();
+    private Thread reader;
+
+    private final AtomicLong subscriberIds = new AtomicLong();
+    private volatile boolean open;
+    private volatile boolean unsupported;
+    private volatile boolean stopped;
+    // Read and written by the reader thread only
+    private BsonDocument resumeToken;
+
+    public UserChangeStream(MongoTemplate mongoTemplate, ObjectMapper objectMapper, AppProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties.userStream();
+        this.reset = SseEmitter.event().name("reset").data(encode(new UserChangeEvent("reset", null, null))).build();
+        this.slowDisconnects = Counter.builder("users.stream.disconnects.slow")
+                .description("Subscribers disconnected for falling behind the user change stream")
+                .register(meterRegistry);
+        Gauge.builder("users.stream.subscribers", this, UserChangeStream::getSubscriberCount)
+                .description("Clients subscribed to the user change stream")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Subscribes a client, replaying the events it missed since {@code lastEventId} (if any).
+     *
+     * @throws StreamUnavailableException at the subscriber limit, or when the database has no change streams
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (unsupported) {
+            throw new StreamUnavailableException("User change stream unavailable");
+        }
+        // The writer ends the connection at its deadline; the container timeout is only a backstop
+        SseEmitter emitter = new SseEmitter(properties.maxConnectionDuration().plus(properties.heartbeat()).toMillis());
+        Subscriber subscriber;
+        synchronized (lock) {
+            if (stopped || subscribers.size() >= properties.maxSubscribers()) {
+                throw new StreamUnavailableException("Too many subscribers");
+            }
+            List<Set<DataWithMediaType>> missed = missedSince(lastEventId);
+            subscriber = new Subscriber(emitter, properties.subscriberBuffer() + missed.size());
+            subscriber.queue.addAll(missed);
+            subscribers.add(subscriber);
+            if (reader == null) {
+                reader = Thread.ofPlatform().daemon().name("user-change-stream").start(this::read);
+            }
+        }
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(() -> {
+            subscriber.close();
+            emitter.complete();
+        });
+        emitter.onError(error -> subscriber.close());
+        subscriber.writer.start();
+        return emitter;
+    }
+
+    /**
+     * Whether the change stream cursor is currently open.
+     */
+    public boolean isOpen() {
+        return open;
+    }
+
+    public int getSubscriberCount() {
+        synchronized (lock) {
+            return subscribers.size();
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        stopped = true;
+        synchronized (lock) {
+            if (reader != null) {
+                reader.interrupt();
+            }
+            subscribers.forEach(Subscriber::close);
+        }
+    }
+
+    private void read() {
+        Duration backoff = MIN_BACKOFF;
+        while (!stopped) {
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = openCursor()) {
+                open = true;
+                backoff = MIN_BACKOFF;
+                logger.info("User change stream opened {}", kv("resumed", resumeToken != null));
+                while (!stopped) {
+                    ChangeStreamDocument<Document> change = cursor.tryNext();
+                    if (change != null && change.getOperationType() == OperationType.INVALIDATE) {
+                        // Collection dropped or renamed: reopen from this point, changes before it are gone
+                        resumeToken = change.getResumeToken();
+                        reset();
+                        break;
+                    }
+                    if (change != null) {
+                        publish(change);
+                    }
+                    // Advances through idle periods too, so a reopen never starts from an aged token
+                    if (cursor.getResumeToken() != null) {
+                        resumeToken = cursor.getResumeToken();
+                    }
+                }
+            } catch (RuntimeException e) {
+                open = false;
+                if (stopped) {
+                    return;
+                }
+                if (e instanceof MongoException mongo && mongo.getCode() == NOT_A_REPLICA_SET) {
+                    logger.warn("User change stream unavailable: MongoDB is not a replica set");
+                    unsupported = true;
+                    synchronized (lock) {
+                        subscribers.forEach(Subscriber::close);
+                    }
+                    return;
+                }
+                if (e instanceof MongoException mongo && mongo.getCode() == HISTORY_LOST) {
+                    logger.warn("User change stream resume point lost, restarting from now");
+                    resumeToken = null;
+                    reset();
+                    continue;
+                }
+                logger.warn("User change stream failed, reopening {}", kv("backoffMs", backoff.toMillis()), e);
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+            }
+        }
+        open = false;
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> openCursor() {
+        ChangeStreamIterable<Document> stream = users().watch(PIPELINE)
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .maxAwaitTime(1, TimeUnit.SECONDS);
+        // startAfter, unlike resumeAfter, also accepts the token of an invalidate event
+        return (resumeToken == null ? stream : stream.startAfter(resumeToken)).cursor();
+    }
+
+    private void publish(ChangeStreamDocument<Document> change) {
+        String id = idOf(change.getDocumentKey());
+        Document document = change.getFullDocument();
+        UserResponse user = document == null ? null : new UserResponse(id,
+                document.getString("name"), document.getString("email"), document.getString("role"),
+                document.getDate("created"), document.getDate("updated"));
+        String type = change.getOperationType().getValue();
+        String eventId = change.getResumeToken().getString("_data").getValue();
+        Frame frame = new Frame(eventId,
+                SseEmitter.event().id(eventId).name(type).data(encode(new UserChangeEvent(type, id, user))).build());
+
+        synchronized (lock) {
+            recent.addLast(frame);
+            if (recent.size() > properties.replaySize()) {
+                recent.removeFirst();
+            }
+            subscribers.forEach(subscriber -> subscriber.offer(frame.data()));
+        }
+    }
+
+    /**
+     * Tells every subscriber to reload, and forgets events that can no longer be resumed from without a gap.
+     */
+    private void reset() {
+        synchronized (lock) {
+            recent.clear();
+            subscribers.forEach(subscriber -> subscriber.offer(reset));
+        }
+    }
+
+    // Called with lock held
+    private List<Set<DataWithMediaType>> missedSince(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of();
+        }
+        List<Set<DataWithMediaType>> missed = new ArrayList<>();
+        boolean found = false;
+        for (Iterator<Frame> frames = recent.iterator(); frames.hasNext(); ) {
+            Frame frame = frames.next();
+            if (found) {
+                missed.add(frame.data());
+            } else {
+                found = frame.id().equals(lastEventId);
+            }
+        }
+        return found ? missed : List.of(reset);
+    }
+
+    private void remove(Subscriber subscriber) {
+        synchronized (lock) {
+            subscribers.remove(subscriber);
+        }
+    }
+
+    private String encode(UserChangeEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot encode user change event", e);
+        }
+    }
+
+    private MongoCollection<Document> users() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(User.class));
+    }
+
+    private static String idOf(BsonDocument documentKey) {
+        BsonValue id = documentKey == null ? null : documentKey.get("_id");
+        if (id == null) {
+            return null;
+        }
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.isString() ? id.asString().getValue() : id.toString();
+    }
+
+    /**
+     * A connected client: a bounded queue filled by the reader and drained by its own writer thread,
+     * since a send blocks for as long as the client takes to read.
+     */
+    private final class Subscriber {
+
+        final SseEmitter emitter;
+        final BlockingQueue<Set<DataWithMediaType>> queue;
+        final Thread writer;
+        volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.writer = Thread.ofPlatform().daemon()
+                    .name("user-stream-" + subscriberIds.incrementAndGet())
+                    .unstarted(this::write);
+        }
+
+        // Called by the reader with lock held; never blocks
+        void offer(Set<DataWithMediaType> frame) {
+            if (!closed && !queue.offer(frame)) {
+                slowDisconnects.increment();
+                logger.info("Disconnecting slow user stream subscriber {}", kv("subscriber", writer.getName()));
+                close();
+            }
+        }
+
+        void close() {
+            closed = true;
+            writer.interrupt();
+        }
+
+        private void write() {
+            long deadline = System.nanoTime() + properties.maxConnectionDuration().toNanos();
+            try {
+                while (!closed) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    Set<DataWithMediaType> frame = queue.poll(
+                            Math.min(properties.heartbeat().toNanos(), remaining), TimeUnit.NANOSECONDS);
+                    if (frame != null) {
+                        emitter.send(frame);
+                    } else if (deadline - System.nanoTime() > 0) {
+                        emitter.send(HEARTBEAT);
+                    }
+                }
+                emitter.complete();
+            } catch (InterruptedException e) {
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                // Client gone, or the emitter already completed; the container completes the request
+                logger.debug("User stream subscriber disconnected {}", kv("subscriber", writer.getName()));
+            } finally {
+                remove(this);
+            }
+        }
+    }
+}
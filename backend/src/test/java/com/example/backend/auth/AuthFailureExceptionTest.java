@@ -0,0 +1,30 @@
+package com.example.backend.auth;
+
+import com.example.backend.exception.AuthenticationFailedException;
+import com.example.backend.exception.InvalidCredentialsException;
+import com.example.backend.exception.UnknownUserException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AuthFailureExceptionTest {
+
+    @Test
+    void TC_AF_001_failuresCarryNoStackTrace() {
+        for (AuthenticationFailedException failure : new AuthenticationFailedException[]{
+                UnknownUserException.INSTANCE, InvalidCredentialsException.INSTANCE}) {
+            assertEquals(0, failure.getStackTrace().length);
+            failure.addSuppressed(new IllegalStateException("ignored"));
+            assertEquals(0, failure.getSuppressed().length);
+        }
+    }
+
+    @Test
+    void TC_AF_002_prebuiltResponsesMatchMessages() {
+        assertEquals(401, UnknownUserException.INSTANCE.toResponse().getStatusCode().value());
+        assertEquals(Map.of("message", "User not found"), UnknownUserException.INSTANCE.toResponse().getBody());
+        assertEquals(Map.of("message", "Invalid email or password"), InvalidCredentialsException.INSTANCE.toResponse().getBody());
+    }
+}
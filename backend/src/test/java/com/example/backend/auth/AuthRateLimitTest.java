@@ -0,0 +1,107 @@
+package com.example.backend.auth;
+
+import com.example.backend.security.RateLimitFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class AuthRateLimitTest {
+
+    // Comfortably above any configured burst
+    private static final int MAX_ATTEMPTS = 500;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    @AfterEach
+    void tearDown() {
+        // Other test classes share the context and the MockMvc client address
+        rateLimitFilter.reset();
+    }
+
+    private MockHttpServletResponse signIn(String remoteAddr, String email) throws Exception {
+        return mockMvc.perform(post("/auth/signin")
+                        .with(request -> {
+                            request.setRemoteAddr(remoteAddr);
+                            return request;
+                        })
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("email", email, "password", "Password123"))))
+                .andReturn().getResponse();
+    }
+
+    @Test
+    void TC_RL_001_clientIsThrottledWithRetryAfter() throws Exception {
+        MockHttpServletResponse response = null;
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            // Fresh email each time so only the per-client bucket is exercised
+            response = signIn("10.0.0.1", "client" + i + "@example.com");
+            if (response.getStatus() == 429) {
+                break;
+            }
+        }
+        assertEquals(429, response.getStatus());
+        assertTrue(Integer.parseInt(response.getHeader("Retry-After")) >= 1);
+        assertTrue(response.getContentAsString().contains("Too many requests"));
+    }
+
+    @Test
+    void TC_RL_002_accountIsThrottledAcrossClients() throws Exception {
+        MockHttpServletResponse response = null;
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            // Rotating client addresses so only the per-account bucket is exercised
+            response = signIn("10.1." + (i / 250) + "." + (i % 250), "Target@Example.com");
+            if (response.getStatus() == 429) {
+                break;
+            }
+        }
+        assertEquals(429, response.getStatus());
+        assertNotNull(response.getHeader("Retry-After"));
+    }
+
+    @Test
+    void TC_RL_003_otherClientsAreNotAffected() throws Exception {
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            if (signIn("10.0.0.2", "noisy" + i + "@example.com").getStatus() == 429) {
+                break;
+            }
+        }
+        assertNotEquals(429, signIn("10.0.0.3", "quiet@example.com").getStatus());
+    }
+
+    @Test
+    void TC_RL_004_resetOfOneClientKeepsOtherLimits() throws Exception {
+        for (String client : List.of("10.0.0.4", "10.0.0.5")) {
+            for (int i = 0; i < MAX_ATTEMPTS; i++) {
+                if (signIn(client, "reset" + i + "@example.com").getStatus() == 429) {
+                    break;
+                }
+            }
+        }
+
+        rateLimitFilter.reset("10.0.0.4", List.of());
+
+        assertNotEquals(429, signIn("10.0.0.4", "after@example.com").getStatus());
+        assertEquals(429, signIn("10.0.0.5", "after@example.com").getStatus());
+    }
+}
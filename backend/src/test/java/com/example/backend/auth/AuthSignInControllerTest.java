@@ -259,17 +259,17 @@ public class AuthSignInControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
-    // @Test
-    // void TC_SI_014_largePayload() throws Exception {
-    //     String largeString = "A".repeat(10 * 1024 * 1024); // ~10MB
-    //     mockMvc.perform(post("/auth/signin")
-    //             .contentType(MediaType.APPLICATION_JSON)
-    //             .content(toJson(Map.of(
-    //                     "email", "large@example.com",
-    //                     "password", largeString
-    //             ))))
-    //             .andExpect(status().isPayloadTooLarge());
-    // }
+    @Test
+    void TC_SI_014_largePayload() throws Exception {
+        String largeString = "A".repeat(10 * 1024 * 1024); // ~10MB
+        mockMvc.perform(post("/auth/signin")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(Map.of(
+                        "email", "large@example.com",
+                        "password", largeString
+                ))))
+                .andExpect(status().isPayloadTooLarge());
+    }
 
     @Test
     void TC_SI_015_specialCharactersPassword() throws Exception {
@@ -0,0 +1,114 @@
+package com.example.backend.auth;
+
+import com.example.backend.security.JwtUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class JwksControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private JsonNode fetchJwks() throws Exception {
+        String body = mockMvc.perform(get("/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    // Positive Test Cases
+
+    @Test @Order(1)
+    void TC_JWKS_001_publicAndCacheable() throws Exception {
+        mockMvc.perform(get("/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("Cache-Control", containsString("public")))
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.keys[0].kty").value("RSA"))
+                .andExpect(jsonPath("$.keys[0].alg").value("RS256"));
+    }
+
+    @Test @Order(2)
+    void TC_JWKS_002_tokenVerifiesAgainstPublishedKey() throws Exception {
+        String token = jwtUtil.generateToken("userId", "user@example.com", "USER");
+        JsonNode header = objectMapper.readTree(
+                new String(Base64.getUrlDecoder().decode(token.split("\\.")[0]), StandardCharsets.UTF_8));
+        String kid = header.get("kid").asText();
+
+        JsonNode jwk = null;
+        for (JsonNode key : fetchJwks().get("keys")) {
+            if (key.get("kid").asText().equals(kid)) {
+                jwk = key;
+            }
+        }
+        assertNotNull(jwk, "Signing key is not published");
+
+        BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.get("n").asText()));
+        BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.get("e").asText()));
+        PublicKey publicKey = KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+
+        assertEquals("userId", Jwts.parserBuilder().setSigningKey(publicKey).build()
+                .parseClaimsJws(token).getBody().getSubject());
+    }
+
+    @Test @Order(3)
+    void TC_JWKS_003_revalidationReturnsNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/.well-known/jwks.json"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/.well-known/jwks.json").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("Cache-Control", containsString("max-age")));
+    }
+
+    // Negative Test Cases
+
+    @Test @Order(4)
+    void TC_JWKS_004_privateKeyMaterialNotPublished() throws Exception {
+        for (JsonNode key : fetchJwks().get("keys")) {
+            assertFalse(key.has("d"));
+            assertFalse(key.has("p"));
+            assertFalse(key.has("q"));
+        }
+    }
+
+    @Test @Order(5)
+    void TC_JWKS_005_tokenWithUnknownKidRejected() throws Exception {
+        String token = jwtUtil.generateToken("userId", "user@example.com", "USER");
+        String[] parts = token.split("\\.");
+        String forgedHeader = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"kid\":\"unknown\",\"alg\":\"RS256\"}".getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(get("/api/users").header("Authorization", "Bearer " + forgedHeader + "." + parts[1] + "." + parts[2]))
+                .andExpect(status().isUnauthorized());
+    }
+}
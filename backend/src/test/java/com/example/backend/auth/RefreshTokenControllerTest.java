@@ -0,0 +1,196 @@
+package com.example.backend.auth;
+
+import com.example.backend.model.RefreshToken;
+import com.example.backend.model.User;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.security.RateLimitFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class RefreshTokenControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitFilter.reset();
+        userRepository.deleteAll();
+        mongoTemplate.remove(new Query(), RefreshToken.class);
+
+        userRepository.save(User.builder()
+                .name("Refresh User")
+                .email("refresh@example.com")
+                .password(passwordEncoder.encode("Password123"))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        mongoTemplate.remove(new Query(), RefreshToken.class);
+    }
+
+    private JsonNode signIn() throws Exception {
+        String body = mockMvc.perform(post("/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "email", "refresh@example.com",
+                                "password", "Password123"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private String refreshBody(String refreshToken) throws Exception {
+        return objectMapper.writeValueAsString(Map.of("refreshToken", refreshToken));
+    }
+
+    // Positive Test Cases
+
+    @Test @Order(1)
+    void TC_RT_001_signInReturnsShortLivedTokenAndRefreshToken() throws Exception {
+        JsonNode tokens = signIn();
+
+        assertTrue(tokens.hasNonNull("token"));
+        assertTrue(tokens.hasNonNull("refreshToken"));
+        assertTrue(tokens.get("expiresIn").asLong() > 0);
+    }
+
+    @Test @Order(2)
+    void TC_RT_002_onlyHashOfRefreshTokenIsStored() throws Exception {
+        String refreshToken = signIn().get("refreshToken").asText();
+
+        RefreshToken stored = mongoTemplate.findAll(RefreshToken.class).get(0);
+        assertNotEquals(refreshToken, stored.getId());
+        assertFalse(stored.isUsed());
+        assertNotNull(stored.getExpiresAt());
+    }
+
+    @Test @Order(3)
+    void TC_RT_003_refreshRotatesTokens() throws Exception {
+        String refreshToken = signIn().get("refreshToken").asText();
+
+        String body = mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(refreshToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").exists())
+                .andExpect(jsonPath("$.refreshToken", not(refreshToken)))
+                .andReturn().getResponse().getContentAsString();
+
+        String accessToken = objectMapper.readTree(body).get("token").asText();
+        mockMvc.perform(get("/api/users").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+    }
+
+    // Negative Test Cases
+
+    @Test @Order(4)
+    void TC_RT_004_reusedRefreshTokenRevokesFamily() throws Exception {
+        String first = signIn().get("refreshToken").asText();
+
+        String body = mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(first)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String second = objectMapper.readTree(body).get("refreshToken").asText();
+
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(first)))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Invalid refresh token"));
+
+        // The legitimate successor is revoked too
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(second)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test @Order(5)
+    void TC_RT_005_unknownRefreshToken() throws Exception {
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody("not-a-refresh-token")))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Invalid refresh token"));
+    }
+
+    @Test @Order(6)
+    void TC_RT_006_missingRefreshToken() throws Exception {
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Refresh token is required"));
+    }
+
+    @Test @Order(7)
+    void TC_RT_007_signOutRevokesRefreshToken() throws Exception {
+        JsonNode tokens = signIn();
+        String refreshToken = tokens.get("refreshToken").asText();
+
+        mockMvc.perform(post("/auth/signout")
+                        .header("Authorization", "Bearer " + tokens.get("token").asText())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(refreshToken)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(refreshToken)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    // Edge Test Cases
+
+    @Test @Order(8)
+    void TC_RT_008_refreshAfterUserDeletedFails() throws Exception {
+        String refreshToken = signIn().get("refreshToken").asText();
+        userRepository.deleteAll();
+
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(refreshToken)))
+                .andExpect(status().isUnauthorized());
+        assertEquals(0, mongoTemplate.count(new Query(), RefreshToken.class));
+    }
+}
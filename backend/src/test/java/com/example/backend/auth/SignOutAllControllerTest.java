@@ -0,0 +1,168 @@
+package com.example.backend.auth;
+
+import com.example.backend.model.RefreshToken;
+import com.example.backend.model.User;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.security.RateLimitFilter;
+import com.example.backend.security.TokenVersionCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class SignOutAllControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    @Autowired
+    private TokenVersionCache tokenVersionCache;
+
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitFilter.reset();
+        tokenVersionCache.clear();
+        userRepository.deleteAll();
+        mongoTemplate.remove(new Query(), RefreshToken.class);
+
+        userId = userRepository.save(User.builder()
+                .name("Everywhere User")
+                .email("everywhere@example.com")
+                .password(passwordEncoder.encode("Password123"))
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        mongoTemplate.remove(new Query(), RefreshToken.class);
+    }
+
+    private JsonNode signIn() throws Exception {
+        String body = mockMvc.perform(post("/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "email", "everywhere@example.com",
+                                "password", "Password123"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private String bearer(JsonNode tokens) {
+        return "Bearer " + tokens.get("token").asText();
+    }
+
+    // Positive Test Cases
+
+    @Test @Order(1)
+    void TC_SOA_001_revokesEveryAccessToken() throws Exception {
+        JsonNode laptop = signIn();
+        JsonNode phone = signIn();
+
+        mockMvc.perform(post("/auth/signout-all").header("Authorization", bearer(laptop)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Signed out everywhere."));
+
+        mockMvc.perform(get("/api/users/" + userId).header("Authorization", bearer(phone)))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Token invalid"));
+        mockMvc.perform(get("/api/users/" + userId).header("Authorization", bearer(laptop)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test @Order(2)
+    void TC_SOA_002_revokesEveryRefreshToken() throws Exception {
+        JsonNode laptop = signIn();
+        JsonNode phone = signIn();
+
+        mockMvc.perform(post("/auth/signout-all").header("Authorization", bearer(laptop)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("refreshToken", phone.get("refreshToken").asText()))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test @Order(3)
+    void TC_SOA_003_newSignInWorksAfterwards() throws Exception {
+        mockMvc.perform(post("/auth/signout-all").header("Authorization", bearer(signIn())))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/users/" + userId).header("Authorization", bearer(signIn())))
+                .andExpect(status().isOk());
+    }
+
+    @Test @Order(4)
+    void TC_SOA_004_profileUpdateKeepsTokenVersion() throws Exception {
+        JsonNode tokens = signIn();
+        mockMvc.perform(post("/auth/signout-all").header("Authorization", bearer(tokens)))
+                .andExpect(status().isOk());
+
+        JsonNode fresh = signIn();
+        mockMvc.perform(put("/api/users/" + userId)
+                        .header("Authorization", bearer(fresh))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Renamed User\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tokenVersion").doesNotExist());
+
+        assertEquals(1L, userRepository.findById(userId).orElseThrow().getTokenVersion());
+        mockMvc.perform(get("/api/users/" + userId).header("Authorization", bearer(tokens)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    // Negative Test Cases
+
+    @Test @Order(5)
+    void TC_SOA_005_requiresToken() throws Exception {
+        mockMvc.perform(post("/auth/signout-all"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Unauthorized"));
+    }
+
+    @Test @Order(6)
+    void TC_SOA_006_revokedTokenCannotSignOutAgain() throws Exception {
+        JsonNode tokens = signIn();
+        mockMvc.perform(post("/auth/signout-all").header("Authorization", bearer(tokens)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/auth/signout-all").header("Authorization", bearer(tokens)))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Token invalid"));
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.backend.auth;
+
+import com.example.backend.security.TokenBlacklistService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenBlacklistServiceTest {
+
+    private final TokenBlacklistService blacklist = new TokenBlacklistService();
+
+    @Test
+    void TC_BL_001_revokedTokenIsBlacklistedUntilExpiry() {
+        blacklist.blacklistToken("live", new Date(System.currentTimeMillis() + 60_000));
+
+        assertTrue(blacklist.isTokenBlacklisted("live"));
+        assertFalse(blacklist.isTokenBlacklisted("other"));
+    }
+
+    @Test
+    void TC_BL_002_expiredTokensAreNotKept() {
+        blacklist.blacklistToken("expired", new Date(System.currentTimeMillis() - 1));
+
+        assertFalse(blacklist.isTokenBlacklisted("expired"));
+        assertEquals(0, blacklist.size());
+    }
+}
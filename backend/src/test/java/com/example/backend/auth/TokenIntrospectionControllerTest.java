@@ -0,0 +1,178 @@
+package com.example.backend.auth;
+
+import com.example.backend.model.User;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.security.InternalApiKeyFilter;
+import com.example.backend.security.JwtUtil;
+import com.example.backend.security.TokenBlacklistService;
+import com.example.backend.security.TokenVersionCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TokenIntrospectionControllerTest {
+
+    // Stands in for a caller that presented a valid X-Internal-Api-Key
+    private static final RequestPostProcessor GATEWAY = user("gateway").roles("INTERNAL");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TokenBlacklistService tokenBlacklistService;
+
+    @Autowired
+    private TokenVersionCache tokenVersionCache;
+
+    private User user;
+    private String userToken;
+
+    @BeforeEach
+    void setUp() {
+        tokenBlacklistService.clear();
+        tokenVersionCache.clear();
+        userRepository.deleteAll();
+        user = userRepository.save(new User(null, "Introspected", "introspect@example.com", "Password123", "USER", new Date(), new Date()));
+        userToken = jwtUtil.generateToken(user.getId(), user.getEmail(), user.getRole());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    private String body(List<String> tokens) throws Exception {
+        return objectMapper.writeValueAsString(Map.of("tokens", tokens));
+    }
+
+    // Positive Test Cases
+
+    @Test @Order(1)
+    void TC_TI_001_activeTokenReturnsClaims() throws Exception {
+        mockMvc.perform(post("/internal/tokens/introspect").with(GATEWAY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(List.of(userToken))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results", hasSize(1)))
+                .andExpect(jsonPath("$.results[0].active").value(true))
+                .andExpect(jsonPath("$.results[0].sub").value(user.getId()))
+                .andExpect(jsonPath("$.results[0].email").value("introspect@example.com"))
+                .andExpect(jsonPath("$.results[0].role").value("USER"))
+                .andExpect(jsonPath("$.results[0].exp").isNumber());
+    }
+
+    @Test @Order(2)
+    void TC_TI_002_mixedBatchKeepsRequestOrder() throws Exception {
+        String other = jwtUtil.generateToken("otherId", "other@example.com", "ADMIN");
+
+        mockMvc.perform(post("/internal/tokens/introspect").with(GATEWAY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(List.of(userToken, "not.a.token", other, userToken))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results", hasSize(4)))
+                .andExpect(jsonPath("$.results[0].active").value(true))
+                .andExpect(jsonPath("$.results[1].active").value(false))
+                .andExpect(jsonPath("$.results[1].sub").doesNotExist())
+                .andExpect(jsonPath("$.results[2].role").value("ADMIN"))
+                .andExpect(jsonPath("$.results[3].active").value(true));
+    }
+
+    @Test @Order(3)
+    void TC_TI_003_signedOutTokenIsInactive() throws Exception {
+        tokenBlacklistService.blacklistToken(userToken, new Date(System.currentTimeMillis() + 60_000));
+
+        mockMvc.perform(post("/internal/tokens/introspect").with(GATEWAY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(List.of(userToken))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].active").value(false));
+    }
+
+    @Test @Order(4)
+    void TC_TI_004_tokenFromOlderVersionIsInactive() throws Exception {
+        String current = jwtUtil.generateToken(user.getId(), user.getEmail(), user.getRole(), 1L);
+        tokenVersionCache.update(user.getId(), 1L);
+
+        mockMvc.perform(post("/internal/tokens/introspect").with(GATEWAY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(List.of(userToken, current))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].active").value(false))
+                .andExpect(jsonPath("$.results[1].active").value(true));
+    }
+
+    // Negative Test Cases
+
+    @Test @Order(5)
+    void TC_TI_005_requiresApiKey() throws Exception {
+        mockMvc.perform(post("/internal/tokens/introspect")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(List.of(userToken))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test @Order(6)
+    void TC_TI_006_userTokenIsNotAnApiKey() throws Exception {
+        mockMvc.perform(post("/internal/tokens/introspect")
+                        .header("Authorization", "Bearer " + userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(List.of(userToken))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test @Order(7)
+    void TC_TI_007_unknownApiKeyRejected() throws Exception {
+        mockMvc.perform(post("/internal/tokens/introspect")
+                        .header(InternalApiKeyFilter.HEADER, "definitely-not-configured")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(List.of(userToken))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    // Edge Test Cases
+
+    @Test @Order(8)
+    void TC_TI_008_emptyBatchRejected() throws Exception {
+        mockMvc.perform(post("/internal/tokens/introspect").with(GATEWAY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(List.of())))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("At least one token is required"));
+    }
+
+    @Test @Order(9)
+    void TC_TI_009_oversizedBatchRejected() throws Exception {
+        mockMvc.perform(post("/internal/tokens/introspect").with(GATEWAY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(Collections.nCopies(101, "x"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("At most 100 tokens per request"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.exception.AuthenticationFailedException;
+import com.example.backend.exception.InvalidCredentialsException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a failed sign-in outside the password check: throwing the failure from a request-depth
+ * stack and building the 401, with the old RuntimeException path for comparison. The bcrypt pair
+ * shows an unknown email (dummy hash) costs the same as a wrong password.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=AuthFailureBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthFailureBenchmark {
+
+    // Frames between the servlet container and the service on a sign-in request, roughly
+    @Param({"120"})
+    public int stackDepth;
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private String storedHash;
+    private String dummyHash;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder();
+        storedHash = passwordEncoder.encode("CorrectPassword1");
+        dummyHash = passwordEncoder.encode("dummy");
+    }
+
+    @Benchmark
+    public ResponseEntity<?> runtimeException() {
+        try {
+            throwAt(stackDepth, () -> {
+                throw new RuntimeException("Invalid credentials");
+            });
+            return null;
+        } catch (RuntimeException e) {
+            String message = e.getMessage().equals("Invalid credentials") ? "Invalid email or password" : e.getMessage();
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("message", message));
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<?> stacklessException() {
+        try {
+            throwAt(stackDepth, () -> {
+                throw InvalidCredentialsException.INSTANCE;
+            });
+            return null;
+        } catch (AuthenticationFailedException e) {
+            return e.toResponse();
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public boolean wrongPassword() {
+        return passwordEncoder.matches("WrongPassword1", storedHash);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public boolean unknownEmail() {
+        return passwordEncoder.matches("WrongPassword1", dummyHash);
+    }
+
+    private static void throwAt(int depth, Runnable thrower) {
+        if (depth == 0) {
+            thrower.run();
+        } else {
+            throwAt(depth - 1, thrower);
+        }
+    }
+}
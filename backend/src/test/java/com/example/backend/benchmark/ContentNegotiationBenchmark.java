@@ -0,0 +1,115 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.config.UserProtobufHttpMessageConverter;
+import com.example.backend.model.User;
+import com.example.backend.proto.UserListMessage;
+import com.example.backend.proto.UserMessage;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode cost of a /api/users page in each negotiable format.
+ * Payload sizes are printed once per trial.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ContentNegotiationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentNegotiationBenchmark {
+
+    private static final TypeReference<List<User>> USER_LIST = new TypeReference<>() {};
+
+    @Param({"100"})
+    public int pageSize;
+
+    private List<User> users;
+    private ObjectMapper json;
+    private ObjectMapper smile;
+    private ObjectMapper cbor;
+    private byte[] jsonBytes;
+    private byte[] smileBytes;
+    private byte[] cborBytes;
+    private byte[] protobufBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        users = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            users.add(new User(String.format("%024x", i), "User Number " + i, "user" + i + "@example.com",
+                    null, i % 10 == 0 ? "ADMIN" : "USER", new Date(1_700_000_000_000L + i), new Date()));
+        }
+
+        // Mirrors ContentNegotiationConfig: ISO dates in JSON, numeric timestamps in binary formats
+        json = new ObjectMapper(new JsonFactory()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        smile = new ObjectMapper(new SmileFactory());
+        cbor = new ObjectMapper(new CBORFactory());
+
+        jsonBytes = json.writeValueAsBytes(users);
+        smileBytes = smile.writeValueAsBytes(users);
+        cborBytes = cbor.writeValueAsBytes(users);
+        protobufBytes = UserProtobufHttpMessageConverter.toMessage(users).toByteArray();
+
+        System.out.printf("%nPayload bytes for %d users: json=%d smile=%d cbor=%d protobuf=%d%n",
+                pageSize, jsonBytes.length, smileBytes.length, cborBytes.length, protobufBytes.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws Exception {
+        return json.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public byte[] encodeSmile() throws Exception {
+        return smile.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public byte[] encodeCbor() throws Exception {
+        return cbor.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public byte[] encodeProtobuf() {
+        return UserProtobufHttpMessageConverter.toMessage(users).toByteArray();
+    }
+
+    @Benchmark
+    public List<User> decodeJson() throws Exception {
+        return json.readValue(jsonBytes, USER_LIST);
+    }
+
+    @Benchmark
+    public List<User> decodeSmile() throws Exception {
+        return smile.readValue(smileBytes, USER_LIST);
+    }
+
+    @Benchmark
+    public List<User> decodeCbor() throws Exception {
+        return cbor.readValue(cborBytes, USER_LIST);
+    }
+
+    @Benchmark
+    public List<User> decodeProtobuf() throws Exception {
+        UserListMessage page = UserListMessage.parseFrom(protobufBytes);
+        List<User> decoded = new ArrayList<>(page.getUsersCount());
+        for (UserMessage message : page.getUsersList()) {
+            decoded.add(new User(message.getId(), message.getName(), message.getEmail(), null,
+                    message.getRole(), new Date(message.getCreated()), new Date(message.getUpdated())));
+        }
+        return decoded;
+    }
+}
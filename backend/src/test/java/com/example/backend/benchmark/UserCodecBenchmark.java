@@ -0,0 +1,92 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.model.User;
+import com.example.backend.repository.UserCodec;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding one user between the entity and BSON bytes:
+ * {@link UserCodec} against MappingMongoConverter plus the driver's Document codec.
+ * Add {@code -prof gc} to the JMH arguments for allocation rates.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=UserCodecBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserCodecBenchmark {
+
+    private static final EncoderContext ENCODE = EncoderContext.builder().isEncodingCollectibleDocument(true).build();
+    private static final DecoderContext DECODE = DecoderContext.builder().build();
+
+    private final UserCodec userCodec = new UserCodec();
+    private final DocumentCodec documentCodec = new DocumentCodec();
+
+    private MappingMongoConverter converter;
+    private User user;
+    private byte[] bytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.afterPropertiesSet();
+
+        user = new User(new ObjectId().toHexString(), "Benchmark User", "benchmark@example.com",
+                "$2a$10$abcdefghijklmnopqrstuuJ3f0o8Xc0cQ9m5rR8bS1o2t3u4v5w6x", "USER",
+                new Date(1_700_000_000_000L), new Date());
+        bytes = encodeWithCodec();
+    }
+
+    @Benchmark
+    public byte[] encodeWithCodec() {
+        BasicOutputBuffer buffer = new BasicOutputBuffer(256);
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            userCodec.encode(writer, user, ENCODE);
+        }
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] encodeWithConverter() {
+        Document document = new Document();
+        converter.write(user, document);
+        BasicOutputBuffer buffer = new BasicOutputBuffer(256);
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            documentCodec.encode(writer, document, ENCODE);
+        }
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public User decodeWithCodec() {
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(bytes))) {
+            return userCodec.decode(reader, DECODE);
+        }
+    }
+
+    @Benchmark
+    public User decodeWithConverter() {
+        return converter.read(User.class, new RawBsonDocument(bytes).decode(documentCodec));
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.model.User;
+import com.example.backend.service.UserJsonTranscoder;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.bson.ByteBuf;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A /api/users JSON page from wire bytes to response bytes:
+ * BSON → Document → MappingMongoConverter → User → Jackson, against direct BSON → JSON transcoding.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=UserReadPathBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserReadPathBenchmark {
+
+    @Param({"100", "1000"})
+    public int pageSize;
+
+    private final DocumentCodec documentCodec = new DocumentCodec();
+
+    private ObjectMapper objectMapper;
+    private MappingMongoConverter converter;
+    // Full documents for the entity path, projected ones (no password, tokenVersion or _class) for the raw path
+    private List<byte[]> fullDocuments;
+    private List<byte[]> projectedDocuments;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.afterPropertiesSet();
+
+        fullDocuments = new ArrayList<>(pageSize);
+        projectedDocuments = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            User user = new User(new ObjectId().toHexString(), "User Number " + i, "user" + i + "@example.com",
+                    "$2a$10$abcdefghijklmnopqrstuuJ3f0o8Xc0cQ9m5rR8bS1o2t3u4v5w6x", i % 10 == 0 ? "ADMIN" : "USER",
+                    new Date(1_700_000_000_000L + i), new Date());
+            Document document = new Document();
+            converter.write(user, document);
+            fullDocuments.add(toBytes(document));
+
+            document.remove("password");
+            document.remove("tokenVersion");
+            document.remove("_class");
+            projectedDocuments.add(toBytes(document));
+        }
+    }
+
+    private byte[] toBytes(Document document) {
+        ByteBuf buffer = new RawBsonDocument(document, documentCodec).getByteBuffer();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] entityPath() throws Exception {
+        List<User> users = new ArrayList<>(pageSize);
+        for (byte[] bytes : fullDocuments) {
+            users.add(converter.read(User.class, new RawBsonDocument(bytes).decode(documentCodec)));
+        }
+        return objectMapper.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public byte[] rawPath() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+        try (JsonGenerator generator = objectMapper.createGenerator(out, JsonEncoding.UTF8)) {
+            UserJsonTranscoder transcoder = new UserJsonTranscoder(generator);
+            generator.writeStartArray();
+            for (byte[] bytes : projectedDocuments) {
+                transcoder.write(new RawBsonDocument(bytes));
+            }
+            generator.writeEndArray();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.backend.config;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoDatabase;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CausalSessionManagerTest {
+
+    private final MongoClient mongoClient = mock(MongoClient.class);
+    private final MongoDatabase admin = mock(MongoDatabase.class);
+    private final ClientSession session = mock(ClientSession.class);
+    private final CausalSessionManager manager = new CausalSessionManager(mongoClient);
+
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoClient.startSession(any(ClientSessionOptions.class))).thenReturn(session);
+        when(mongoClient.getDatabase("admin")).thenReturn(admin);
+        request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, new MockHttpServletResponse()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private void clusterTimeIs(int seconds) {
+        when(session.getClusterTime()).thenReturn(new BsonDocument("clusterTime", new BsonTimestamp(seconds, 1)));
+    }
+
+    // Positive Test Cases
+
+    @Test
+    void TC_CS_001_tokenWithinClusterTimeAdvancesSession() {
+        clusterTimeIs(200);
+        request.addHeader(CausalSessionManager.HEADER, "150.3");
+
+        assertSame(session, manager.startSession());
+
+        verify(session).advanceOperationTime(new BsonTimestamp(150, 3));
+    }
+
+    @Test
+    void TC_CS_002_knownClusterTimeSkipsPing() {
+        clusterTimeIs(200);
+        manager.publishOperationTime(session);
+        request.addHeader(CausalSessionManager.HEADER, "150.3");
+
+        manager.startSession();
+
+        verify(session).advanceOperationTime(new BsonTimestamp(150, 3));
+        verify(admin, never()).runCommand(any(ClientSession.class), any(Bson.class));
+    }
+
+    // Negative Test Cases
+
+    @Test
+    void TC_CS_003_tokenAheadOfClusterTimeIgnored() {
+        clusterTimeIs(200);
+        request.addHeader(CausalSessionManager.HEADER, "4000000000.1");
+
+        assertSame(session, manager.startSession());
+
+        verify(admin).runCommand(any(ClientSession.class), any(Bson.class));
+        verify(session, never()).advanceOperationTime(any());
+    }
+
+    @Test
+    void TC_CS_004_tokenIgnoredWithoutClusterTime() {
+        // Standalone servers report no cluster time
+        request.addHeader(CausalSessionManager.HEADER, "150.3");
+
+        manager.startSession();
+
+        verify(session, never()).advanceOperationTime(any());
+    }
+
+    // Edge Test Cases
+
+    @Test
+    void TC_CS_005_tokensParsedAsUnsignedTimestamps() {
+        assertEquals(new BsonTimestamp(150, 3), CausalSessionManager.decode("150.3"));
+        assertEquals("4294967295.1", CausalSessionManager.encode(CausalSessionManager.decode("4294967295.1")));
+
+        assertNull(CausalSessionManager.decode("150"));
+        assertNull(CausalSessionManager.decode(".3"));
+        assertNull(CausalSessionManager.decode("150."));
+        assertNull(CausalSessionManager.decode("-150.3"));
+        assertNull(CausalSessionManager.decode("4294967296.1"));
+        assertNull(CausalSessionManager.decode("not-a-token"));
+    }
+
+    @Test
+    void TC_CS_006_malformedOrBlankHeaderIgnored() {
+        request.addHeader(CausalSessionManager.HEADER, "not-a-token");
+        assertFalse(manager.hasReadAfterToken());
+        manager.startSession();
+
+        request.removeHeader(CausalSessionManager.HEADER);
+        request.addHeader(CausalSessionManager.HEADER, " ");
+        assertFalse(manager.hasReadAfterToken());
+
+        request.removeHeader(CausalSessionManager.HEADER);
+        request.addHeader(CausalSessionManager.HEADER, " 150.3 ");
+        assertTrue(manager.hasReadAfterToken());
+
+        verify(session, never()).advanceOperationTime(any());
+        verifyNoInteractions(admin);
+    }
+}
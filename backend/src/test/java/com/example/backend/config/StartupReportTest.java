@@ -0,0 +1,53 @@
+package com.example.backend.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StartupReportTest {
+
+    private final BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+
+    private StartupStep bean(String name) {
+        return startup.start(StartupReport.BEAN_INSTANTIATION).tag("beanName", name);
+    }
+
+    @Test
+    void TC_SR_001_orderedBySelfTimeExcludingDependencies() throws InterruptedException {
+        StartupStep service = bean("service");
+        StartupStep repository = bean("repository");
+        Thread.sleep(60);
+        repository.end();
+        Thread.sleep(20);
+        service.end();
+
+        List<StartupReport.BeanTiming> slowest = StartupReport.slowestBeans(startup.getBufferedTimeline(), 10);
+
+        assertEquals(List.of("repository", "service"), slowest.stream().map(StartupReport.BeanTiming::bean).toList());
+        StartupReport.BeanTiming serviceTiming = slowest.get(1);
+        assertTrue(serviceTiming.total().compareTo(Duration.ofMillis(80)) >= 0);
+        assertTrue(serviceTiming.self().compareTo(Duration.ofMillis(60)) < 0);
+    }
+
+    @Test
+    void TC_SR_002_onlyBeanInstantiationsUpToLimit() throws InterruptedException {
+        for (String name : List.of("a", "b", "c")) {
+            StartupStep step = bean(name);
+            Thread.sleep(5);
+            step.end();
+        }
+        startup.start("spring.context.refresh").end();
+
+        List<StartupReport.BeanTiming> slowest = StartupReport.slowestBeans(startup.getBufferedTimeline(), 2);
+
+        assertEquals(2, slowest.size());
+        assertTrue(slowest.stream().noneMatch(timing -> timing.bean().equals("(unnamed)")));
+        // The report reads the timeline without draining it
+        assertEquals(4, startup.getBufferedTimeline().getEvents().size());
+    }
+}
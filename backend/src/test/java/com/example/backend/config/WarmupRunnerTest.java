@@ -0,0 +1,133 @@
+package com.example.backend.config;
+
+import com.example.backend.web.ConcurrencyLimitFilter;
+import com.example.backend.web.SerializedResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots with a short warm-up and records what the warm-up requests and readiness events saw.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.warmup.enabled=true",
+        "app.warmup.iterations=40",
+        "app.warmup.max-duration=60000"
+})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class WarmupRunnerTest {
+
+    record Request(String path, ReadinessState readiness, int status) {}
+
+    record ReadinessChange(ReadinessState state, long warmupsRecorded) {}
+
+    static final List<Request> requests = new CopyOnWriteArrayList<>();
+    static final List<ReadinessChange> readinessChanges = new CopyOnWriteArrayList<>();
+
+    @TestConfiguration
+    static class Recording {
+
+        @Bean
+        FilterRegistrationBean<Filter> readinessRecordingFilter(ApplicationAvailability availability) {
+            FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>((request, response, chain) -> {
+                ReadinessState readiness = availability.getReadinessState();
+                chain.doFilter(request, response);
+                requests.add(new Request(((jakarta.servlet.http.HttpServletRequest) request).getRequestURI(),
+                        readiness, ((HttpServletResponse) response).getStatus()));
+            });
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            return registration;
+        }
+
+        @Bean
+        ApplicationListener<AvailabilityChangeEvent<ReadinessState>> readinessRecorder(MeterRegistry meterRegistry) {
+            return event -> {
+                Timer warmup = meterRegistry.find("application.warmup").timer();
+                readinessChanges.add(new ReadinessChange(event.getState(), warmup == null ? 0 : warmup.count()));
+            };
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AppProperties properties;
+
+    @Autowired
+    private ConcurrencyLimitFilter concurrencyLimitFilter;
+
+    @Autowired
+    private SerializedResponseCache responseCache;
+
+    // Positive Test Cases
+
+    @Test @Order(1)
+    void TC_WU_001_warmupRequestsSeeRefusingTraffic() {
+        List<Request> warmup = List.copyOf(requests);
+
+        assertFalse(warmup.isEmpty());
+        assertTrue(warmup.stream().allMatch(request -> request.readiness() == ReadinessState.REFUSING_TRAFFIC),
+                () -> "served while accepting traffic: " + warmup);
+    }
+
+    @Test @Order(2)
+    void TC_WU_002_acceptingTrafficOnlyOnceWarmupReturned() {
+        assertEquals(ReadinessState.REFUSING_TRAFFIC, readinessChanges.get(0).state());
+        assertEquals(0, readinessChanges.get(0).warmupsRecorded());
+
+        ReadinessChange accepting = readinessChanges.stream()
+                .filter(change -> change.state() == ReadinessState.ACCEPTING_TRAFFIC)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1, accepting.warmupsRecorded());
+    }
+
+    @Test @Order(3)
+    void TC_WU_003_credentialRoutesNeverRateLimited() {
+        List<Request> credentials = requests.stream().filter(request -> request.path().startsWith("/auth/")).toList();
+
+        assertTrue(credentials.stream().filter(request -> request.path().equals("/auth/signup")).count() >= 40);
+        assertTrue(credentials.stream().noneMatch(request -> request.status() == 429), () -> "rate limited: " + credentials);
+    }
+
+    // Edge Test Cases
+
+    @Test @Order(4)
+    void TC_WU_004_limitsAndCachesResetAfterwards() throws Exception {
+        assertEquals(properties.concurrency().initial(), concurrencyLimitFilter.getLimit());
+        assertEquals(0, responseCache.weightedSize());
+
+        // The full per-IP sign-up allowance (30/60 by default) is available again to loopback clients
+        HttpClient client = HttpClient.newHttpClient();
+        for (int i = 0; i < 30; i++) {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/auth/signup"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"\",\"email\":\"not-an-email-" + i + "\",\"password\":\"\"}"))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(400, response.statusCode(), "sign-up " + i);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.backend.docs;
+
+import com.example.backend.BackendApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes the OpenAPI document at build time (mvn -Popenapi package): boots the application on a
+ * random port with springdoc enabled, fetches {@code /v3/api-docs} and stores it where
+ * {@code StaticOpenApiController} reads it from the jar.
+ *
+ * No database or signing keys are needed; the Mongo URI points nowhere and fails fast for anything
+ * that tries, and tokens are signed with a throwaway key.
+ */
+public final class OpenApiDocumentWriter {
+
+    public static void main(String[] args) throws Exception {
+        Path output = Path.of(args[0]);
+        // Devtools is on the test classpath; its restarter would rerun main without arguments
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        // Passed as arguments, which take precedence over application.properties and the environment
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class).run(
+                "--server.port=0",
+                "--springdoc.api-docs.enabled=true",
+                "--app.warmup.enabled=false",
+                "--app.jwt.allow-generated-key=true",
+                "--app.mongo.uri=mongodb://localhost:1/openapi?serverSelectionTimeoutMS=100")) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpResponse<byte[]> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v3/api-docs")).build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("GET /v3/api-docs returned " + response.statusCode());
+            }
+
+            // The server entry names this throwaway port; without one, clients use the origin they loaded the document from
+            ObjectMapper mapper = new ObjectMapper();
+            ObjectNode document = (ObjectNode) mapper.readTree(response.body());
+            document.remove("servers");
+
+            Files.createDirectories(output.getParent());
+            mapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), document);
+        }
+    }
+}
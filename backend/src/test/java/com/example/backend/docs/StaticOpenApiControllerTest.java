@@ -0,0 +1,70 @@
+package com.example.backend.docs;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Production profile: springdoc is off and the build-time document (here the fixture in
+ * src/test/resources/openapi) is served instead.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("prod")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class StaticOpenApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    // Positive Test Cases
+
+    @Test @Order(1)
+    void TC_OA_001_servesBuildTimeDocumentWithCacheHeaders() throws Exception {
+        mockMvc.perform(get("/v3/api-docs"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.info.title").value("Backend API"));
+    }
+
+    @Test @Order(2)
+    void TC_OA_002_servesSwaggerUiPage() throws Exception {
+        mockMvc.perform(get("/swagger-ui/index.html"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(content().string(containsString("url: \"/v3/api-docs\"")));
+        mockMvc.perform(get("/swagger-ui.html"))
+                .andExpect(status().isOk());
+    }
+
+    // Negative Test Cases
+
+    @Test @Order(3)
+    void TC_OA_003_invalidTokenDoesNotBlockDocs() throws Exception {
+        mockMvc.perform(get("/v3/api-docs").header("Authorization", "Bearer not.a.token"))
+                .andExpect(status().isOk());
+    }
+
+    // Edge Test Cases
+
+    @Test @Order(4)
+    void TC_OA_004_unchangedDocumentIsNotResent() throws Exception {
+        String eTag = mockMvc.perform(get("/v3/api-docs"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/v3/api-docs").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                .andExpect(content().string(""));
+    }
+}
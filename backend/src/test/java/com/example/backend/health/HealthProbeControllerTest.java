@@ -0,0 +1,101 @@
+package com.example.backend.health;
+
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "app.health.max-mongo-wait-queue=2")
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class HealthProbeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MongoPoolMonitor mongoPoolMonitor;
+
+    @Autowired
+    private SaturationHealthIndicator saturationHealthIndicator;
+
+    private void waitForConnections(int threads) {
+        for (int i = 0; i < threads; i++) {
+            mongoPoolMonitor.connectionCheckOutStarted(mock(ConnectionCheckOutStartedEvent.class));
+        }
+    }
+
+    private void giveUpWaiting(int threads) {
+        for (int i = 0; i < threads; i++) {
+            mongoPoolMonitor.connectionCheckOutFailed(mock(ConnectionCheckOutFailedEvent.class));
+        }
+    }
+
+    // Positive Test Cases
+
+    @Test @Order(1)
+    void TC_HP_001_livenessIsPublicAndUp() throws Exception {
+        mockMvc.perform(get("/actuator/health/liveness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+
+    @Test @Order(2)
+    void TC_HP_002_readinessIsPublic() throws Exception {
+        // UP or DOWN depending on MongoDB, but never behind authentication
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().is(anyOf(is(200), is(503))))
+                .andExpect(jsonPath("$.status").exists());
+    }
+
+    @Test @Order(3)
+    void TC_HP_003_notSaturatedAtRest() {
+        assertEquals(Status.UP, saturationHealthIndicator.health().getStatus());
+    }
+
+    // Negative Test Cases
+
+    @Test @Order(4)
+    void TC_HP_004_mongoWaitQueueTakesInstanceOutOfService() throws Exception {
+        waitForConnections(3);
+        try {
+            assertEquals(Status.OUT_OF_SERVICE, saturationHealthIndicator.health().getStatus());
+            assertEquals(List.of("mongoWaitQueue"), saturationHealthIndicator.health().getDetails().get("saturated"));
+            mockMvc.perform(get("/actuator/health/readiness"))
+                    .andExpect(status().isServiceUnavailable());
+            // Liveness does not follow saturation
+            mockMvc.perform(get("/actuator/health/liveness"))
+                    .andExpect(status().isOk());
+        } finally {
+            giveUpWaiting(3);
+        }
+        assertEquals(Status.UP, saturationHealthIndicator.health().getStatus());
+    }
+
+    // Edge Test Cases
+
+    @Test @Order(5)
+    void TC_HP_005_detailsHiddenFromAnonymousCallers() throws Exception {
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(jsonPath("$.components").doesNotExist());
+    }
+
+    @Test @Order(6)
+    void TC_HP_006_otherActuatorEndpointsStayClosed() throws Exception {
+        mockMvc.perform(get("/actuator/startup"))
+                .andExpect(status().isUnauthorized());
+    }
+}
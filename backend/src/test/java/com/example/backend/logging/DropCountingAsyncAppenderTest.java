@@ -0,0 +1,130 @@
+package com.example.backend.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The delegate appender blocks until released, so the queue fills deterministically.
+ */
+public class DropCountingAsyncAppenderTest {
+
+    private static final int QUEUE_SIZE = 10;
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch firstEventTaken = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> written = new CopyOnWriteArrayList<>();
+    private final DropCountingAsyncAppender appender = new DropCountingAsyncAppender();
+
+    private double dropped() {
+        return meterRegistry.get("logging.events.dropped").functionCounter().count();
+    }
+
+    private void log(Level level, String message) {
+        appender.doAppend(new LoggingEvent(getClass().getName(), loggerContext.getLogger("test"), level, message, null, null));
+    }
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        new LoggingMetrics().bindTo(meterRegistry);
+        // Events copy the MDC when queued; a standalone context has no adapter until one is set
+        loggerContext.setMDCAdapter(new LogbackMDCAdapter());
+
+        AppenderBase<ILoggingEvent> blocking = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                firstEventTaken.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                written.add(event.getFormattedMessage());
+            }
+        };
+        blocking.setContext(loggerContext);
+        blocking.start();
+
+        appender.setContext(loggerContext);
+        appender.setQueueSize(QUEUE_SIZE);
+        appender.setNeverBlock(true);
+        appender.addAppender(blocking);
+        appender.start();
+
+        // Park the worker inside the delegate so nothing leaves the queue
+        log(Level.INFO, "blocker");
+        assertTrue(firstEventTaken.await(5, TimeUnit.SECONDS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        appender.stop();
+    }
+
+    // Positive Test Cases
+
+    @Test
+    void TC_DA_001_fullQueueWithNeverBlockDropsAndCounts() {
+        appender.setDiscardingThreshold(0);
+        double before = dropped();
+
+        for (int i = 0; i < QUEUE_SIZE + 5; i++) {
+            log(Level.ERROR, "event-" + i);
+        }
+
+        assertEquals(0, appender.getRemainingCapacity());
+        assertEquals(5, dropped() - before);
+    }
+
+    @Test
+    void TC_DA_002_queuedEventsStillWritten() {
+        appender.setDiscardingThreshold(0);
+        for (int i = 0; i < QUEUE_SIZE + 5; i++) {
+            log(Level.ERROR, "event-" + i);
+        }
+
+        release.countDown();
+        appender.stop();
+
+        assertEquals(QUEUE_SIZE + 1, written.size());
+        assertEquals("event-" + (QUEUE_SIZE - 1), written.get(written.size() - 1));
+    }
+
+    // Edge Test Cases
+
+    @Test
+    void TC_DA_003_discardingThresholdDropsOnlyInfoAndBelow() {
+        // Default threshold is a fifth of the queue: INFO and lower are discarded once fewer than 2 slots remain
+        double before = dropped();
+
+        for (int i = 0; i < 20; i++) {
+            log(Level.INFO, "info-" + i);
+        }
+        assertEquals(11, dropped() - before);
+        assertEquals(1, appender.getRemainingCapacity());
+
+        log(Level.WARN, "kept");
+        assertEquals(0, appender.getRemainingCapacity());
+        assertEquals(11, dropped() - before);
+
+        log(Level.WARN, "overflow");
+        assertEquals(12, dropped() - before);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.backend.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SamplingTurboFilterTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final SamplingTurboFilter filter = new SamplingTurboFilter();
+
+    @BeforeEach
+    void setUp() {
+        filter.setContext(loggerContext);
+        filter.addRate("com.example.sampled=10");
+        filter.addRate("com.example.sampled.Hot=100");
+        filter.start();
+    }
+
+    private FilterReply decide(Marker marker, String loggerName, Level level) {
+        Logger logger = loggerContext.getLogger(loggerName);
+        return filter.decide(marker, logger, level, "message", null, null);
+    }
+
+    private int kept(Marker marker, String loggerName, Level level, int events) {
+        int kept = 0;
+        for (int i = 0; i < events; i++) {
+            if (decide(marker, loggerName, level) == FilterReply.NEUTRAL) {
+                kept++;
+            }
+        }
+        return kept;
+    }
+
+    // Positive Test Cases
+
+    @Test
+    void TC_SF_001_sampledEventsKeptAtConfiguredRate() {
+        long sampledOut = SamplingTurboFilter.SAMPLED_OUT.sum();
+
+        assertEquals(10, kept(LogMarkers.SAMPLED, "com.example.sampled.Controller", Level.INFO, 100));
+        assertEquals(90, SamplingTurboFilter.SAMPLED_OUT.sum() - sampledOut);
+        // The first event of a logger is always kept
+        assertEquals(FilterReply.NEUTRAL, decide(LogMarkers.SAMPLED, "com.example.sampled.Other", Level.DEBUG));
+    }
+
+    @Test
+    void TC_SF_002_longestPrefixWinsAndLoggersCountedSeparately() {
+        assertEquals(1, kept(LogMarkers.SAMPLED, "com.example.sampled.Hot", Level.INFO, 100));
+        assertEquals(10, kept(LogMarkers.SAMPLED, "com.example.sampled.Cold", Level.INFO, 100));
+    }
+
+    // Negative Test Cases
+
+    @Test
+    void TC_SF_003_unmarkedEventsNeverSampled() {
+        assertEquals(100, kept(null, "com.example.sampled.Controller", Level.INFO, 100));
+        assertEquals(100, kept(MarkerFactory.getMarker("OTHER"), "com.example.sampled.Controller", Level.INFO, 100));
+    }
+
+    @Test
+    void TC_SF_004_warningsNeverSampled() {
+        assertEquals(100, kept(LogMarkers.SAMPLED, "com.example.sampled.Controller", Level.WARN, 100));
+        assertEquals(100, kept(LogMarkers.SAMPLED, "com.example.sampled.Controller", Level.ERROR, 100));
+    }
+
+    @Test
+    void TC_SF_005_invalidRulesIgnored() {
+        int errors = loggerContext.getStatusManager().getCount();
+        filter.addRate("com.example.unconfigured");
+        filter.addRate("com.example.unconfigured=often");
+
+        assertEquals(errors + 2, loggerContext.getStatusManager().getCount());
+        assertEquals(100, kept(LogMarkers.SAMPLED, "com.example.unconfigured.Controller", Level.INFO, 100));
+    }
+
+    // Edge Test Cases
+
+    @Test
+    void TC_SF_006_markerReferencingSampledIsSampled() {
+        Marker marker = MarkerFactory.getDetachedMarker("REQUEST");
+        marker.add(LogMarkers.SAMPLED);
+
+        assertEquals(10, kept(marker, "com.example.sampled.Controller", Level.INFO, 100));
+    }
+
+    @Test
+    void TC_SF_007_unconfiguredLoggersUseDefaultRate() {
+        assertEquals(100, kept(LogMarkers.SAMPLED, "org.example.Elsewhere", Level.INFO, 100));
+
+        filter.setDefaultRate(4);
+        assertEquals(25, kept(LogMarkers.SAMPLED, "org.example.Other", Level.INFO, 100));
+    }
+}
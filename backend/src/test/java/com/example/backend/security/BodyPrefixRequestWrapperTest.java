@@ -0,0 +1,139 @@
+package com.example.backend.security;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BodyPrefixRequestWrapperTest {
+
+    /**
+     * A container stream that supports non-blocking reads: the test plays the container and
+     * calls the registered listener.
+     */
+    private static final class AsyncInputStream extends ServletInputStream {
+
+        private final ByteArrayInputStream body;
+        private ReadListener listener;
+
+        AsyncInputStream(String body) {
+            this.body = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int read() {
+            return body.read();
+        }
+
+        @Override
+        public boolean isFinished() {
+            return body.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return body.available() > 0;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            this.listener = readListener;
+        }
+    }
+
+    /**
+     * Reads whatever is ready on each notification, as non-blocking servlet readers do.
+     */
+    private static final class CollectingListener implements ReadListener {
+
+        private final ServletInputStream stream;
+        private final ByteArrayOutputStream read = new ByteArrayOutputStream();
+        private boolean allDataRead;
+
+        CollectingListener(ServletInputStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public void onDataAvailable() throws IOException {
+            while (stream.isReady() && !stream.isFinished()) {
+                int b = stream.read();
+                if (b == -1) {
+                    break;
+                }
+                read.write(b);
+            }
+        }
+
+        @Override
+        public void onAllDataRead() {
+            allDataRead = true;
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            fail(t);
+        }
+    }
+
+    private static MockHttpServletRequest request(ServletInputStream stream) {
+        return new MockHttpServletRequest("POST", "/auth/signin") {
+            @Override
+            public ServletInputStream getInputStream() {
+                return stream;
+            }
+        };
+    }
+
+    @Test
+    void TC_BP_001_blockingReadSeesPrefixThenRemainder() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/signin");
+        request.setContent("{\"email\":\"a@example.com\"}".getBytes(StandardCharsets.UTF_8));
+
+        BodyPrefixRequestWrapper wrapped = new BodyPrefixRequestWrapper(request, 8);
+
+        assertEquals("{\"email\"", new String(wrapped.getPrefix(), StandardCharsets.UTF_8));
+        assertEquals("{\"email\":\"a@example.com\"}", new String(wrapped.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void TC_BP_002_readListenerReplaysPrefixThenDelegates() throws IOException {
+        AsyncInputStream original = new AsyncInputStream("hello world");
+        BodyPrefixRequestWrapper wrapped = new BodyPrefixRequestWrapper(request(original), 5);
+        ServletInputStream stream = wrapped.getInputStream();
+        CollectingListener listener = new CollectingListener(stream);
+
+        stream.setReadListener(listener);
+        original.listener.onDataAvailable();
+        original.listener.onAllDataRead();
+
+        assertEquals("hello world", listener.read.toString(StandardCharsets.UTF_8));
+        assertTrue(listener.allDataRead);
+        assertTrue(stream.isFinished());
+    }
+
+    @Test
+    void TC_BP_003_bodyWithinPrefixIsDeliveredBeforeAllDataRead() throws IOException {
+        AsyncInputStream original = new AsyncInputStream("short");
+        BodyPrefixRequestWrapper wrapped = new BodyPrefixRequestWrapper(request(original), 64);
+        ServletInputStream stream = wrapped.getInputStream();
+        CollectingListener listener = new CollectingListener(stream);
+
+        assertTrue(stream.isReady());
+        assertFalse(stream.isFinished());
+
+        // The original stream is exhausted, so the container reports all data read straight away
+        stream.setReadListener(listener);
+        original.listener.onAllDataRead();
+
+        assertEquals("short", listener.read.toString(StandardCharsets.UTF_8));
+        assertTrue(listener.allDataRead);
+    }
+}
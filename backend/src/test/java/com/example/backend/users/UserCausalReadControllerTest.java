@@ -0,0 +1,102 @@
+package com.example.backend.users;
+
+import com.example.backend.config.CausalSessionManager;
+import com.example.backend.model.User;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.security.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class UserCausalReadControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String userId;
+    private String userJwt;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        User user = userRepository.save(new User(null, "Causal User", "causal@example.com", "Password123", "USER", new Date(), new Date()));
+        userId = user.getId();
+        userJwt = "Bearer " + jwtUtil.generateToken(userId, user.getEmail(), user.getRole());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void TC_CR_001_readOwnWriteWithCausalToken() throws Exception {
+        String token = mockMvc.perform(put("/api/users/{id}", userId)
+                        .header("Authorization", userJwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "Renamed"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(CausalSessionManager.HEADER);
+
+        // Standalone servers report no operation time, so the token is only sent on replica sets
+        assumeTrue(token != null, "Causal tokens need MongoDB running as a replica set");
+
+        mockMvc.perform(get("/api/users/{id}", userId)
+                        .header("Authorization", userJwt)
+                        .header(CausalSessionManager.HEADER, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Renamed"));
+    }
+
+    @Test
+    void TC_CR_002_malformedTokenIsIgnored() throws Exception {
+        mockMvc.perform(get("/api/users/{id}", userId)
+                        .header("Authorization", userJwt)
+                        .header(CausalSessionManager.HEADER, "not-a-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Causal User"));
+    }
+
+    @Test
+    void TC_CR_003_listWithCausalToken() throws Exception {
+        mockMvc.perform(get("/api/users")
+                        .header("Authorization", userJwt)
+                        .header(CausalSessionManager.HEADER, "1.1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(userId));
+    }
+
+    @Test
+    void TC_CR_004_tokenAheadOfClusterTimeIsIgnored() throws Exception {
+        // Largest token that parses; no cluster reaches it, on replica sets or standalone
+        mockMvc.perform(get("/api/users/{id}", userId)
+                        .header("Authorization", userJwt)
+                        .header(CausalSessionManager.HEADER, "4294967295.4294967295"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Causal User"));
+    }
+}
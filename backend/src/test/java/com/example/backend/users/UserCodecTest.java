@@ -0,0 +1,180 @@
+package com.example.backend.users;
+
+import com.example.backend.model.User;
+import com.example.backend.repository.UserCodec;
+import com.example.backend.repository.UserEmailDomainCallback;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.*;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Round-trip equivalence between {@link UserCodec} and Spring Data's reflective converter.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class UserCodecTest {
+
+    private final UserCodec codec = new UserCodec();
+    private final UserEmailDomainCallback emailDomainCallback = new UserEmailDomainCallback();
+    private final DocumentCodec documentCodec = new DocumentCodec();
+    private MappingMongoConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.afterPropertiesSet();
+    }
+
+    private static User sampleUser() {
+        return new User(new ObjectId().toHexString(), "Codec User", "codec@example.com", "$2a$10$hash",
+                "ADMIN", new Date(1_700_000_000_123L), new Date(1_700_000_500_456L));
+    }
+
+    private Document encodeWithCodec(User user) {
+        BsonDocument bson = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(bson), user, EncoderContext.builder().build());
+        return documentCodec.decode(new BsonDocumentReader(bson), DecoderContext.builder().build());
+    }
+
+    // What MongoTemplate saves: the converter's document, completed by the before-save callback
+    private Document encodeWithConverter(User user) {
+        Document document = new Document();
+        converter.write(user, document);
+        emailDomainCallback.onBeforeSave(user, document, "users");
+        return document;
+    }
+
+    private User decodeWithCodec(Document document) {
+        return codec.decode(new BsonDocumentReader(document.toBsonDocument()), DecoderContext.builder().build());
+    }
+
+    // Positive Test Cases
+
+    @Test @Order(1)
+    void TC_UC_001_encodesSameDocumentAsConverter() {
+        User user = sampleUser();
+        assertEquals(encodeWithConverter(user), encodeWithCodec(user));
+    }
+
+    @Test @Order(2)
+    void TC_UC_002_codecReadsConverterDocuments() {
+        User user = sampleUser();
+        assertEquals(user, decodeWithCodec(encodeWithConverter(user)));
+    }
+
+    @Test @Order(3)
+    void TC_UC_003_converterReadsCodecDocuments() {
+        User user = sampleUser();
+        assertEquals(user, converter.read(User.class, encodeWithCodec(user)));
+    }
+
+    @Test @Order(4)
+    void TC_UC_004_generatesObjectIdWhenMissing() {
+        User user = sampleUser();
+        user.setId(null);
+
+        assertFalse(codec.documentHasId(user));
+        codec.generateIdIfAbsentFromDocument(user);
+
+        assertTrue(ObjectId.isValid(user.getId()));
+        assertTrue(codec.getDocumentId(user).isObjectId());
+    }
+
+    // Edge Test Cases
+
+    @Test @Order(5)
+    void TC_UC_005_nullFieldsAreOmitted() {
+        User user = sampleUser();
+        user.setPassword(null);
+        user.setUpdated(null);
+
+        Document document = encodeWithCodec(user);
+        assertEquals(encodeWithConverter(user), document);
+        assertFalse(document.containsKey("password"));
+
+        // Absent fields fall back to the entity defaults, as with the converter
+        User decoded = decodeWithCodec(document);
+        assertNull(decoded.getPassword());
+        assertNotNull(decoded.getUpdated());
+        assertNotNull(converter.read(User.class, document).getUpdated());
+    }
+
+    @Test @Order(6)
+    void TC_UC_006_nonHexIdStaysString() {
+        User user = sampleUser();
+        user.setId("legacy-id");
+
+        Document document = encodeWithCodec(user);
+        assertEquals("legacy-id", document.get("_id"));
+        assertEquals(encodeWithConverter(user), document);
+        assertEquals(user, decodeWithCodec(document));
+    }
+
+    @Test @Order(7)
+    void TC_UC_007_projectedDocumentKeepsEntityDefaults() {
+        User user = sampleUser();
+        Document projected = new Document("_id", new ObjectId(user.getId())).append("updated", user.getUpdated());
+
+        User fromCodec = decodeWithCodec(projected);
+        User fromConverter = converter.read(User.class, projected);
+
+        assertEquals(fromConverter.getId(), fromCodec.getId());
+        assertEquals(fromConverter.getUpdated(), fromCodec.getUpdated());
+        assertEquals(fromConverter.getRole(), fromCodec.getRole());
+        assertNull(fromCodec.getPassword());
+    }
+
+    @Test @Order(8)
+    void TC_UC_008_unknownFieldsAreSkipped() {
+        User user = sampleUser();
+        Document document = encodeWithConverter(user)
+                .append("legacy", new Document("nested", 1))
+                .append("tags", List.of("a", "b"));
+
+        assertEquals(user, decodeWithCodec(document));
+    }
+
+    @Test @Order(9)
+    void TC_UC_009_tokenVersionMatchesConverterAndReadsInt32() {
+        User user = sampleUser();
+        user.setTokenVersion(3);
+        assertEquals(encodeWithConverter(user), encodeWithCodec(user));
+        assertEquals(user, decodeWithCodec(encodeWithCodec(user)));
+
+        // $inc with an int on a missing field stores an int32
+        Document document = encodeWithConverter(user).append("tokenVersion", 4);
+        assertEquals(4L, decodeWithCodec(document).getTokenVersion());
+    }
+
+    @Test @Order(10)
+    void TC_UC_010_emailDomainWrittenButNotMapped() {
+        User user = sampleUser();
+        user.setEmail("Codec@Corp.Example");
+
+        Document converted = new Document();
+        converter.write(user, converted);
+        assertFalse(converted.containsKey("emailDomain"));
+
+        assertEquals("corp.example", encodeWithCodec(user).get("emailDomain"));
+        assertEquals("corp.example", encodeWithConverter(user).get("emailDomain"));
+
+        user.setEmail("no-domain");
+        assertFalse(encodeWithCodec(user).containsKey("emailDomain"));
+        assertFalse(encodeWithConverter(user).containsKey("emailDomain"));
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.backend.users;
+
+import com.example.backend.model.User;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.security.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class UserConditionalGetControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String userId;
+    private String userJwt;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        User user = userRepository.save(new User(null, "Cached User", "cached@example.com", "Password123", "USER", new Date(), new Date()));
+        userId = user.getId();
+        userJwt = "Bearer " + jwtUtil.generateToken(userId, user.getEmail(), user.getRole());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    private String etagOf(String url, Object... vars) throws Exception {
+        return mockMvc.perform(get(url, vars).header("Authorization", userJwt))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+    }
+
+    // Positive Test Cases
+
+    @Test
+    void TC_CG_001_unchangedUserReturnsNotModified() throws Exception {
+        String etag = etagOf("/api/users/{id}", userId);
+
+        mockMvc.perform(get("/api/users/{id}", userId)
+                        .header("Authorization", userJwt)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void TC_CG_002_updatedUserReturnsNewRepresentation() throws Exception {
+        String etag = etagOf("/api/users/{id}", userId);
+        Thread.sleep(5); // Make sure the update timestamp moves on
+
+        mockMvc.perform(put("/api/users/{id}", userId)
+                        .header("Authorization", userJwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "Changed"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/users/{id}", userId)
+                        .header("Authorization", userJwt)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Changed"));
+    }
+
+    @Test
+    void TC_CG_003_unchangedPageReturnsNotModified() throws Exception {
+        String etag = etagOf("/api/users");
+
+        mockMvc.perform(get("/api/users")
+                        .header("Authorization", userJwt)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void TC_CG_004_pageChangesWhenUserAdded() throws Exception {
+        String etag = etagOf("/api/users");
+        userRepository.save(new User(null, "Another", "another@example.com", "Password123", "USER", new Date(), new Date()));
+
+        mockMvc.perform(get("/api/users")
+                        .header("Authorization", userJwt)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void TC_CG_005_pageHasLastModified() throws Exception {
+        mockMvc.perform(get("/api/users").header("Authorization", userJwt))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"));
+    }
+
+    // Negative Test Cases
+
+    @Test
+    void TC_CG_006_conditionalGetForMissingUser() throws Exception {
+        mockMvc.perform(get("/api/users/{id}", "aaaaaaaaaaaaaaaaaaaaaaaa")
+                        .header("Authorization", userJwt)
+                        .header("If-None-Match", "\"stale\""))
+                .andExpect(status().isNotFound());
+    }
+
+    // Edge Test Cases
+
+    @Test
+    void TC_CG_007_etagNamesNegotiatedFormat() throws Exception {
+        String json = etagOf("/api/users/{id}", userId);
+
+        // Same user and version, but other bytes: the JSON validator must not match the CBOR body
+        String cbor = mockMvc.perform(get("/api/users/{id}", userId)
+                        .header("Authorization", userJwt)
+                        .header("Accept", "application/cbor")
+                        .header("If-None-Match", json))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/cbor"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(json, cbor);
+
+        String jsonPage = etagOf("/api/users");
+        mockMvc.perform(get("/api/users")
+                        .header("Authorization", userJwt)
+                        .header("Accept", "application/x-protobuf")
+                        .header("If-None-Match", jsonPage))
+                .andExpect(status().isOk());
+    }
+}
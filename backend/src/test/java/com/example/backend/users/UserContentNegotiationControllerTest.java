@@ -0,0 +1,101 @@
+package com.example.backend.users;
+
+import com.example.backend.model.User;
+import com.example.backend.proto.UserListMessage;
+import com.example.backend.proto.UserMessage;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.security.JwtUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class UserContentNegotiationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String userId;
+    private String userJwt;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        User user = userRepository.save(new User(null, "Binary User", "binary@example.com", "Password123", "USER", new Date(), new Date()));
+        userId = user.getId();
+        userJwt = "Bearer " + jwtUtil.generateToken(userId, user.getEmail(), user.getRole());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    private byte[] fetch(String url, String accept, String expectedContentType) throws Exception {
+        return mockMvc.perform(get(url).header("Authorization", userJwt).header("Accept", accept))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(expectedContentType))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    @Test
+    void TC_CN_001_jsonIsDefault() throws Exception {
+        mockMvc.perform(get("/api/users/{id}", userId).header("Authorization", userJwt))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("Vary", org.hamcrest.Matchers.containsString("Accept")));
+    }
+
+    @Test
+    void TC_CN_002_cborUser() throws Exception {
+        byte[] body = fetch("/api/users/" + userId, "application/cbor", "application/cbor");
+        JsonNode user = new ObjectMapper(new CBORFactory()).readTree(body);
+        assertEquals("Binary User", user.get("name").asText());
+        assertFalse(user.has("password"));
+    }
+
+    @Test
+    void TC_CN_003_smileList() throws Exception {
+        byte[] body = fetch("/api/users", "application/x-jackson-smile", "application/x-jackson-smile");
+        JsonNode users = new ObjectMapper(new SmileFactory()).readTree(body);
+        assertEquals(1, users.size());
+        assertFalse(users.get(0).has("password"));
+    }
+
+    @Test
+    void TC_CN_004_protobufUser() throws Exception {
+        byte[] body = fetch("/api/users/" + userId, "application/x-protobuf", "application/x-protobuf");
+        UserMessage user = UserMessage.parseFrom(body);
+        assertEquals(userId, user.getId());
+        assertEquals("binary@example.com", user.getEmail());
+    }
+
+    @Test
+    void TC_CN_005_protobufList() throws Exception {
+        byte[] body = fetch("/api/users", "application/x-protobuf", "application/x-protobuf");
+        UserListMessage users = UserListMessage.parseFrom(body);
+        assertEquals(1, users.getUsersCount());
+        assertEquals("Binary User", users.getUsers(0).getName());
+    }
+}
@@ -270,19 +270,19 @@ public class UserCreateControllerTest {
                 .andExpect(jsonPath("$.email").value("jöhn@example.com"));
         }
 
-        // @Test
-        // @Order(17)
-        // void TC017_largePayload() throws Exception {
-        // String largeString = "A".repeat(10 * 1024 * 1024); // ~10MB string
-        // mockMvc.perform(post(ENDPOINT)
-        //         .contentType(MediaType.APPLICATION_JSON)
-        //         .content(toJson(Map.of(
-        //                 "name", largeString,
-        //                 "email", "large@example.com",
-        //                 "password", "Password123"
-        //         ))))
-        //         .andExpect(status().isPayloadTooLarge()); // Ensure backend handles large payloads safely
-        // }
+        @Test
+        @Order(17)
+        void TC017_largePayload() throws Exception {
+        String largeString = "A".repeat(10 * 1024 * 1024); // ~10MB string
+        mockMvc.perform(post(ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(Map.of(
+                        "name", largeString,
+                        "email", "large@example.com",
+                        "password", "Password123"
+                ))))
+                .andExpect(status().isPayloadTooLarge()); // Ensure backend handles large payloads safely
+        }
 
         @Test
         @Order(18)
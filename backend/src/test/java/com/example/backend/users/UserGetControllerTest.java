@@ -59,7 +59,8 @@ class UserGetControllerTest {
         mockMvc.perform(get("/api/users/{id}", existingUserId)
                 .header("Authorization", userJwt))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(existingUserId));
+                .andExpect(jsonPath("$.id").value(existingUserId))
+                .andExpect(jsonPath("$.password").doesNotExist());
     }
 
     @Test
@@ -0,0 +1,120 @@
+package com.example.backend.users;
+
+import com.example.backend.model.User;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.security.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Date;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class UserJsonPassthroughControllerTest {
+
+    private static final Date CREATED = new Date(1_700_000_000_123L);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String userId;
+    private String userJwt;
+    private String adminJwt;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        User user = userRepository.save(new User(null, "Raw User", "raw@example.com", "Password123", "USER", CREATED, CREATED));
+        User admin = userRepository.save(new User(null, "Raw Admin", "rawadmin@example.com", "Password123", "ADMIN", CREATED, CREATED));
+        userId = user.getId();
+        userJwt = "Bearer " + jwtUtil.generateToken(userId, user.getEmail(), user.getRole());
+        adminJwt = "Bearer " + jwtUtil.generateToken(admin.getId(), admin.getEmail(), admin.getRole());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    // Positive Test Cases
+
+    @Test @Order(1)
+    void TC_JP_001_listRenamesIdAndOmitsPassword() throws Exception {
+        mockMvc.perform(get("/api/users").header("Authorization", userJwt))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", is(userId)))
+                .andExpect(jsonPath("$[0]._id").doesNotExist())
+                .andExpect(jsonPath("$[0]._class").doesNotExist())
+                .andExpect(jsonPath("$[0].password").doesNotExist())
+                .andExpect(jsonPath("$[0].tokenVersion").doesNotExist());
+    }
+
+    @Test @Order(2)
+    void TC_JP_002_datesMatchEntitySerialization() throws Exception {
+        String expected = objectMapper.convertValue(CREATED, String.class);
+
+        mockMvc.perform(get("/api/users").header("Authorization", userJwt).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].created", is(expected)))
+                .andExpect(jsonPath("$[0].updated", is(expected)));
+    }
+
+    @Test @Order(3)
+    void TC_JP_003_transcodedPageIsRevalidated() throws Exception {
+        String etag = mockMvc.perform(get("/api/users").header("Authorization", userJwt))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/users").header("Authorization", userJwt).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test @Order(4)
+    void TC_JP_004_adminExportStreamsAllUsers() throws Exception {
+        mockMvc.perform(get("/api/users/export").header("Authorization", adminJwt))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", is(userId)))
+                .andExpect(jsonPath("$[1].role", is("ADMIN")))
+                .andExpect(jsonPath("$[*].password").isEmpty());
+    }
+
+    // Negative Test Cases
+
+    @Test @Order(5)
+    void TC_JP_005_exportForbiddenForUsers() throws Exception {
+        mockMvc.perform(get("/api/users/export").header("Authorization", userJwt))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test @Order(6)
+    void TC_JP_006_exportRequiresAuthentication() throws Exception {
+        mockMvc.perform(get("/api/users/export"))
+                .andExpect(status().isUnauthorized());
+    }
+}
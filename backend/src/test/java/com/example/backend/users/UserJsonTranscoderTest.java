@@ -0,0 +1,75 @@
+package com.example.backend.users;
+
+import com.example.backend.model.User;
+import com.example.backend.service.UserJsonTranscoder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserJsonTranscoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JsonNode transcode(Document document) throws Exception {
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = objectMapper.createGenerator(json)) {
+            new UserJsonTranscoder(generator).write(new RawBsonDocument(document, new DocumentCodec()));
+        }
+        return objectMapper.readTree(json.toString());
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    // Positive Test Cases
+
+    @Test
+    void TC_JT_001_profileFieldsWritten() throws Exception {
+        ObjectId id = new ObjectId();
+        Document document = new Document("_id", id)
+                .append("name", "Raw User")
+                .append("email", "raw@example.com")
+                .append("role", "USER")
+                .append("created", new Date(1_700_000_000_000L))
+                .append("updated", new Date(1_700_000_500_000L));
+
+        JsonNode user = transcode(document);
+
+        assertEquals(List.of("id", "name", "email", "role", "created", "updated"), fieldNames(user));
+        assertEquals(id.toHexString(), user.get("id").asText());
+        assertEquals(1_700_000_500_000L, user.get("updated").asLong());
+    }
+
+    // Negative Test Cases
+
+    @Test
+    void TC_JT_002_unlistedFieldsNeverWritten() throws Exception {
+        Document document = new Document("_id", new ObjectId())
+                .append("name", "Raw User")
+                .append("password", "$2a$10$hash")
+                .append("tokenVersion", 3L)
+                .append("emailDomain", "example.com")
+                .append("resetToken", "secret")
+                .append("mfa", new Document("secret", "totp"))
+                .append("_class", User.class.getName());
+
+        JsonNode user = transcode(document);
+
+        assertEquals(List.of("id", "name"), fieldNames(user));
+    }
+}
@@ -200,4 +200,29 @@ public class UserListControllerTest {
         mockMvc.perform(get("/api/users").header("Authorization", "Bearer expired.token.here"))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test @Order(15)
+    void TC_LU_017_negativePageRejected() throws Exception {
+        mockMvc.perform(get("/api/users?page=-1").header("Authorization", userJwt))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Page must not be negative"));
+    }
+
+    @Test @Order(16)
+    void TC_LU_018_nonPositiveLimitRejected() throws Exception {
+        // Mongo reads limit(0) as no limit at all
+        mockMvc.perform(get("/api/users?limit=0").header("Authorization", userJwt))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/users?limit=-5").header("Authorization", userJwt).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test @Order(17)
+    void TC_LU_019_oversizedLimitCapped() throws Exception {
+        mockMvc.perform(get("/api/users?limit=" + Integer.MAX_VALUE).header("Authorization", userJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+        mockMvc.perform(get("/api/users?page=" + Integer.MAX_VALUE).header("Authorization", userJwt))
+                .andExpect(status().isBadRequest());
+    }
 }
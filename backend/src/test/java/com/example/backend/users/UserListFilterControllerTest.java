@@ -0,0 +1,129 @@
+package com.example.backend.users;
+
+import com.example.backend.model.User;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.security.JwtUtil;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ActiveProfiles("test")
+public class UserListFilterControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String userJwt;
+
+    private static Date day(int dayOfJanuary) {
+        return Date.from(Instant.parse(String.format("2024-01-%02dT00:00:00Z", dayOfJanuary)));
+    }
+
+    @BeforeEach
+    void cleanDatabase() {
+        userRepository.deleteAll();
+        User user = userRepository.save(new User(null, "Valid User", "valid@example.com", "hashedpassword", "USER", day(1), day(20)));
+        userRepository.save(new User(null, "Admin One", "one@corp.example", "hashedpassword", "ADMIN", day(5), day(6)));
+        userRepository.save(new User(null, "Admin Two", "two@Corp.Example", "hashedpassword", "ADMIN", day(10), day(11)));
+        userJwt = "Bearer " + jwtUtil.generateToken(user.getId(), user.getEmail(), user.getRole());
+    }
+
+    // Positive Test Cases
+
+    @Test @Order(1)
+    void TC_LF_001_filterByRole() throws Exception {
+        mockMvc.perform(get("/api/users").param("role", "admin").header("Authorization", userJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", containsInAnyOrder("Admin One", "Admin Two")));
+    }
+
+    @Test @Order(2)
+    void TC_LF_002_filterByEmailDomainIgnoresCase() throws Exception {
+        mockMvc.perform(get("/api/users").param("emailDomain", "corp.example").param("sort", "-created")
+                        .header("Authorization", userJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("Admin Two", "Admin One")))
+                .andExpect(jsonPath("$[0].emailDomain").doesNotExist());
+    }
+
+    @Test @Order(3)
+    void TC_LF_003_createdRangeSortsByCreated() throws Exception {
+        mockMvc.perform(get("/api/users").param("createdFrom", "2024-01-02T00:00:00Z").param("createdTo", "2024-01-10T00:00:00Z")
+                        .header("Authorization", userJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("Admin One")));
+    }
+
+    @Test @Order(4)
+    void TC_LF_004_binaryFormatsHonourFilters() throws Exception {
+        mockMvc.perform(get("/api/users").param("role", "USER").param("sort", "updated")
+                        .header("Authorization", userJwt)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("Valid User")))
+                .andExpect(content().string(not(containsString("Admin"))));
+    }
+
+    // Negative Test Cases
+
+    @Test @Order(5)
+    void TC_LF_005_rangeOnUnsortedFieldRefused() throws Exception {
+        mockMvc.perform(get("/api/users").param("updatedFrom", "2024-01-02T00:00:00Z").param("sort", "created")
+                        .header("Authorization", userJwt))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("A range on updated requires sort=updated or sort=-updated"));
+    }
+
+    @Test @Order(6)
+    void TC_LF_006_unindexedSortRefused() throws Exception {
+        mockMvc.perform(get("/api/users").param("sort", "email").header("Authorization", userJwt))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/users").param("role", "USER").param("emailDomain", "example.com")
+                        .header("Authorization", userJwt))
+                .andExpect(status().isBadRequest());
+    }
+
+    // Edge Test Cases
+
+    @Test @Order(7)
+    void TC_LF_007_malformedDateIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/users").param("createdFrom", "last week").header("Authorization", userJwt))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid value for createdFrom"));
+    }
+
+    @Test @Order(8)
+    void TC_LF_008_emailChangeMovesDomain() throws Exception {
+        User moved = userRepository.findByEmail("one@corp.example").orElseThrow();
+        mockMvc.perform(put("/api/users/" + moved.getId())
+                        .header("Authorization", userJwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"one@elsewhere.example\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/users").param("emailDomain", "elsewhere.example").header("Authorization", userJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("Admin One")));
+    }
+}
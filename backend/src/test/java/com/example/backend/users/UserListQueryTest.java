@@ -0,0 +1,99 @@
+package com.example.backend.users;
+
+import com.example.backend.exception.UnsupportedQueryException;
+import com.example.backend.repository.UserListQuery;
+import org.bson.BsonDocument;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.*;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Planning of user listings against the compound indexes.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class UserListQueryTest {
+
+    private static final Instant FROM = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2024-02-01T00:00:00Z");
+
+    private static BsonDocument bson(Bson value) {
+        return value.toBsonDocument();
+    }
+
+    private static UserListQuery.Criteria criteria(String role, String emailDomain, Instant createdFrom, Instant updatedFrom) {
+        return new UserListQuery.Criteria(role, emailDomain, createdFrom, null, updatedFrom, null);
+    }
+
+    // Positive Test Cases
+
+    @Test @Order(1)
+    void TC_LQ_001_defaultIsIdOrderOnIdIndex() {
+        UserListQuery query = UserListQuery.plan(UserListQuery.Criteria.NONE, null);
+
+        assertEquals(BsonDocument.parse("{}"), bson(query.filter()));
+        assertEquals(BsonDocument.parse("{_id: 1}"), bson(query.sort()));
+        assertEquals(BsonDocument.parse("{_id: 1}"), bson(query.hint()));
+    }
+
+    @Test @Order(2)
+    void TC_LQ_002_equalityThenSortThenTieBreaker() {
+        UserListQuery query = UserListQuery.plan(criteria("admin", null, null, null), "-created");
+
+        assertEquals(BsonDocument.parse("{role: 'ADMIN'}"), bson(query.filter()));
+        assertEquals(BsonDocument.parse("{created: -1, _id: -1}"), bson(query.sort()));
+        assertEquals(BsonDocument.parse("{role: 1, created: 1, _id: 1}"), bson(query.hint()));
+    }
+
+    @Test @Order(3)
+    void TC_LQ_003_rangeDefaultsToSortOnRangedField() {
+        UserListQuery query = UserListQuery.plan(new UserListQuery.Criteria(null, "@Example.COM", FROM, TO, null, null), null);
+
+        assertEquals(BsonDocument.parse("{$and: [{emailDomain: 'example.com'}, "
+                + "{created: {$gte: {$date: '2024-01-01T00:00:00Z'}}}, {created: {$lt: {$date: '2024-02-01T00:00:00Z'}}}]}"),
+                bson(query.filter()));
+        assertEquals(BsonDocument.parse("{created: 1, _id: 1}"), bson(query.sort()));
+        assertEquals(BsonDocument.parse("{emailDomain: 1, created: 1, _id: 1}"), bson(query.hint()));
+    }
+
+    @Test @Order(4)
+    void TC_LQ_004_everyPlannedIndexIsDeclared() {
+        for (String sort : UserListQuery.SORT_KEYS) {
+            for (UserListQuery.Criteria filter : new UserListQuery.Criteria[] {
+                    UserListQuery.Criteria.NONE, criteria("USER", null, null, null), criteria(null, "example.com", null, null)}) {
+                Bson hint = UserListQuery.plan(filter, sort).hint();
+                assertTrue(UserListQuery.INDEXES.stream().anyMatch(keys -> bson(hint).keySet().stream().toList().equals(keys)),
+                        () -> "undeclared index " + bson(hint));
+            }
+        }
+    }
+
+    // Negative Test Cases
+
+    @Test @Order(5)
+    void TC_LQ_005_rangeOnAnotherFieldThanSortRefused() {
+        UnsupportedQueryException e = assertThrows(UnsupportedQueryException.class,
+                () -> UserListQuery.plan(criteria(null, null, FROM, null), "updated"));
+        assertEquals("A range on created requires sort=created or sort=-created", e.getMessage());
+        assertThrows(UnsupportedQueryException.class, () -> UserListQuery.plan(criteria(null, null, FROM, null), "id"));
+    }
+
+    @Test @Order(6)
+    void TC_LQ_006_combinationsWithoutIndexRefused() {
+        assertThrows(UnsupportedQueryException.class,
+                () -> UserListQuery.plan(criteria("USER", "example.com", null, null), null));
+        assertThrows(UnsupportedQueryException.class,
+                () -> UserListQuery.plan(criteria(null, null, FROM, FROM), null));
+    }
+
+    // Edge Test Cases
+
+    @Test @Order(7)
+    void TC_LQ_007_unknownSortKeysRefused() {
+        for (String sort : new String[] {"email", "-password", "--created", "_id", "Created"}) {
+            assertThrows(UnsupportedQueryException.class, () -> UserListQuery.plan(UserListQuery.Criteria.NONE, sort), sort);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.backend.users;
+
+import com.example.backend.model.User;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.security.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class UserRequestBodyLimitControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String userId;
+    private String userJwt;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        User user = userRepository.save(new User(null, "Limited User", "limited@example.com", "Password123", "USER", new Date(), new Date()));
+        userId = user.getId();
+        userJwt = "Bearer " + jwtUtil.generateToken(userId, user.getEmail(), user.getRole());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    /**
+     * Sends the body without a Content-Length, as a chunked upload would.
+     */
+    private static RequestPostProcessor chunked() {
+        return request -> {
+            MockHttpServletRequest chunked = new MockHttpServletRequest(request.getServletContext(),
+                    request.getMethod(), request.getRequestURI()) {
+                @Override
+                public int getContentLength() {
+                    return -1;
+                }
+
+                @Override
+                public long getContentLengthLong() {
+                    return -1;
+                }
+            };
+            chunked.setContent(request.getContentAsByteArray());
+            chunked.setContentType(request.getContentType());
+            for (String name : Collections.list(request.getHeaderNames())) {
+                chunked.addHeader(name, request.getHeader(name));
+            }
+            return chunked;
+        };
+    }
+
+    // Positive Test Cases
+
+    @Test @Order(1)
+    void TC_BL_001_normalBodyIsAccepted() throws Exception {
+        mockMvc.perform(put("/api/users/{id}", userId)
+                        .header("Authorization", userJwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "Still Fine"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Still Fine"));
+    }
+
+    // Negative Test Cases
+
+    @Test @Order(2)
+    void TC_BL_002_declaredLengthOverLimitIsRejected() throws Exception {
+        mockMvc.perform(put("/api/users/{id}", userId)
+                        .header("Authorization", userJwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "N".repeat(1024 * 1024)))))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.message").value("Payload too large"));
+    }
+
+    @Test @Order(3)
+    void TC_BL_003_undeclaredLengthIsCountedWhileStreaming() throws Exception {
+        mockMvc.perform(put("/api/users/{id}", userId)
+                        .header("Authorization", userJwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "N".repeat(64 * 1024))))
+                        .with(chunked()))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.message").value("Payload too large"));
+    }
+
+    @Test @Order(4)
+    void TC_BL_004_deepNestingIsRejected() throws Exception {
+        String nested = "{\"name\":\"Nested\",\"extra\":" + "[".repeat(500) + "]".repeat(500) + "}";
+
+        mockMvc.perform(put("/api/users/{id}", userId)
+                        .header("Authorization", userJwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(nested))
+                .andExpect(status().isPayloadTooLarge());
+    }
+
+    @Test @Order(5)
+    void TC_BL_005_signUpOverLimitIsRejected() throws Exception {
+        mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "name", "Big", "email", "big@example.com", "password", "P".repeat(64 * 1024)))))
+                .andExpect(status().isPayloadTooLarge());
+    }
+}
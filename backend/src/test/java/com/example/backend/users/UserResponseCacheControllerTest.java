@@ -0,0 +1,132 @@
+package com.example.backend.users;
+
+import com.example.backend.model.User;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.security.JwtUtil;
+import com.example.backend.web.SerializedResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class UserResponseCacheControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SerializedResponseCache responseCache;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String userId;
+    private String userJwt;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        responseCache.clear();
+        User user = userRepository.save(new User(null, "Hot User", "hot@example.com", "Password123", "USER", new Date(), new Date()));
+        userId = user.getId();
+        userJwt = "Bearer " + jwtUtil.generateToken(userId, user.getEmail(), user.getRole());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        responseCache.clear();
+    }
+
+    private byte[] fetch(MediaType accept) throws Exception {
+        return mockMvc.perform(get("/api/users/{id}", userId).header("Authorization", userJwt).accept(accept))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(accept))
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    // Positive Test Cases
+
+    @Test @Order(1)
+    void TC_RC_001_repeatedReadsServeSameBytes() throws Exception {
+        byte[] first = fetch(MediaType.APPLICATION_JSON);
+        long cachedBytes = responseCache.weightedSize();
+        byte[] second = fetch(MediaType.APPLICATION_JSON);
+
+        assertTrue(cachedBytes >= first.length);
+        assertEquals(cachedBytes, responseCache.weightedSize());
+        assertArrayEquals(first, second);
+        assertEquals("Hot User", objectMapper.readTree(second).get("name").asText());
+        assertFalse(objectMapper.readTree(second).has("password"));
+    }
+
+    @Test @Order(2)
+    void TC_RC_002_formatsAreCachedSeparately() throws Exception {
+        byte[] json = fetch(MediaType.APPLICATION_JSON);
+        byte[] cbor = fetch(MediaType.APPLICATION_CBOR);
+
+        assertFalse(Arrays.equals(json, cbor));
+        assertTrue(responseCache.weightedSize() >= json.length + cbor.length);
+    }
+
+    @Test @Order(3)
+    void TC_RC_003_updateInvalidatesCachedBody() throws Exception {
+        fetch(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(put("/api/users/{id}", userId)
+                        .header("Authorization", userJwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "Cooled User"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/users/{id}", userId).header("Authorization", userJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Cooled User"));
+    }
+
+    // Negative Test Cases
+
+    @Test @Order(4)
+    void TC_RC_004_deleteInvalidatesCachedBody() throws Exception {
+        fetch(MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(delete("/api/users/{id}", userId).header("Authorization", userJwt))
+                .andExpect(status().isNoContent());
+
+        assertEquals(0, responseCache.weightedSize());
+        mockMvc.perform(get("/api/users/{id}", userId).header("Authorization", userJwt))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test @Order(5)
+    void TC_RC_005_unsupportedFormatBypassesCache() throws Exception {
+        mockMvc.perform(get("/api/users/{id}", userId).header("Authorization", userJwt).accept(MediaType.TEXT_PLAIN))
+                .andExpect(status().isNotAcceptable());
+
+        assertEquals(0, responseCache.weightedSize());
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.backend.users;
+
+import com.example.backend.model.User;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.security.JwtUtil;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Date;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ActiveProfiles("test")
+public class UserSearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String adminJwt;
+    private String userJwt;
+
+    @BeforeEach
+    void cleanDatabase() {
+        userRepository.deleteAll();
+        User admin = userRepository.save(new User(null, "Admin User", "admin@example.com", "hashedpassword", "ADMIN", new Date(), new Date()));
+        User user = userRepository.save(new User(null, "Valid User", "valid@example.com", "hashedpassword", "USER", new Date(), new Date()));
+        userRepository.save(new User(null, "Alice Martin", "Alice.Martin@Example.com", "hashedpassword", "USER", new Date(), new Date()));
+        userRepository.save(new User(null, "Bob Alison", "bob@example.com", "hashedpassword", "USER", new Date(), new Date()));
+        adminJwt = "Bearer " + jwtUtil.generateToken(admin.getId(), admin.getEmail(), admin.getRole());
+        userJwt = "Bearer " + jwtUtil.generateToken(user.getId(), user.getEmail(), user.getRole());
+    }
+
+    // Positive Test Cases
+
+    @Test @Order(1)
+    void TC_SU_001_emailPrefixIsCaseInsensitive() throws Exception {
+        mockMvc.perform(get("/api/users/search").param("q", "alice.m").param("mode", "prefix")
+                        .header("Authorization", adminJwt))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("no-store")))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].email").value("Alice.Martin@Example.com"))
+                .andExpect(jsonPath("$[0].password").doesNotExist());
+    }
+
+    @Test @Order(2)
+    void TC_SU_002_namePrefix() throws Exception {
+        mockMvc.perform(get("/api/users/search").param("q", "BOB").param("mode", "prefix")
+                        .header("Authorization", adminJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("Bob Alison")));
+    }
+
+    @Test @Order(3)
+    void TC_SU_003_freeTextMatchesWholeWords() throws Exception {
+        mockMvc.perform(get("/api/users/search").param("q", "martin").param("mode", "text")
+                        .header("Authorization", adminJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("Alice Martin")));
+    }
+
+    @Test @Order(4)
+    void TC_SU_004_autoListsPrefixMatchesBeforeTextMatches() throws Exception {
+        // "alice" prefixes Alice Martin's email and is a word of nothing else; "alison" only matches as text
+        mockMvc.perform(get("/api/users/search").param("q", "alice")
+                        .header("Authorization", adminJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Alice Martin"));
+        mockMvc.perform(get("/api/users/search").param("q", "alison")
+                        .header("Authorization", adminJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("Bob Alison")));
+    }
+
+    // Negative Test Cases
+
+    @Test @Order(5)
+    void TC_SU_005_regexRefused() throws Exception {
+        mockMvc.perform(get("/api/users/search").param("q", "^adm.*")
+                        .header("Authorization", adminJwt))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Regular expressions are not supported"));
+    }
+
+    @Test @Order(6)
+    void TC_SU_006_tooShortOrUnknownMode() throws Exception {
+        mockMvc.perform(get("/api/users/search").param("q", "a")
+                        .header("Authorization", adminJwt))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/users/search").param("q", "alice").param("mode", "regex")
+                        .header("Authorization", adminJwt))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test @Order(7)
+    void TC_SU_007_adminOnly() throws Exception {
+        mockMvc.perform(get("/api/users/search").param("q", "alice")
+                        .header("Authorization", userJwt))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/users/search").param("q", "alice"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    // Edge Test Cases
+
+    @Test @Order(8)
+    void TC_SU_008_limitIsCapped() throws Exception {
+        IntStream.range(0, 60).forEach(i -> userRepository.save(
+                new User(null, "Bulk " + i, "bulk" + i + "@example.com", "hashedpassword", "USER", new Date(), new Date())));
+
+        mockMvc.perform(get("/api/users/search").param("q", "bulk").param("limit", "5")
+                        .header("Authorization", adminJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(5)));
+        mockMvc.perform(get("/api/users/search").param("q", "bulk").param("limit", "1000")
+                        .header("Authorization", adminJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(50)));
+    }
+
+    @Test @Order(9)
+    void TC_SU_009_dotsAndPlusAreLiteral() throws Exception {
+        mockMvc.perform(get("/api/users/search").param("q", "valid@example.c").param("mode", "prefix")
+                        .header("Authorization", adminJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].email", contains("valid@example.com")));
+        mockMvc.perform(get("/api/users/search").param("q", "valid+x").param("mode", "prefix")
+                        .header("Authorization", adminJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.backend.users;
+
+import com.example.backend.model.User;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.security.JwtUtil;
+import com.example.backend.security.RateLimitFilter;
+import com.example.backend.service.UserStatsService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ActiveProfiles("test")
+public class UserStatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private UserStatsService userStatsService;
+
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String adminJwt;
+    private String userJwt;
+
+    private String signUp(String email) throws Exception {
+        String body = mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Stats User\", \"email\": \"" + email + "\", \"password\": \"StrongPass123\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return body.replaceAll(".*\"id\":\"([^\"]+)\".*", "$1");
+    }
+
+    @BeforeEach
+    void cleanDatabase() {
+        rateLimitFilter.reset();
+        userRepository.deleteAll();
+        mongoTemplate.dropCollection("user_stats");
+        // Saved directly, so not counted until reconciled
+        User admin = userRepository.save(new User(null, "Admin User", "admin@example.com", "hashedpassword", "ADMIN", new Date(), new Date()));
+        User user = userRepository.save(new User(null, "Valid User", "valid@example.com", "hashedpassword", "USER", new Date(), new Date()));
+        adminJwt = "Bearer " + jwtUtil.generateToken(admin.getId(), admin.getEmail(), admin.getRole());
+        userJwt = "Bearer " + jwtUtil.generateToken(user.getId(), user.getEmail(), user.getRole());
+    }
+
+    // Positive Test Cases
+
+    @Test @Order(1)
+    void TC_ST_001_signupsAndDeletionsAreCounted() throws Exception {
+        String id = signUp("first@example.com");
+        signUp("second@example.com");
+
+        mockMvc.perform(get("/api/users/stats").param("days", "7").header("Authorization", adminJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.byRole.USER").value(2))
+                .andExpect(jsonPath("$.signupsPerDay", hasSize(7)))
+                .andExpect(jsonPath("$.signupsPerDay[6].day").value(LocalDate.now(ZoneOffset.UTC).toString()))
+                .andExpect(jsonPath("$.signupsPerDay[6].count").value(2));
+
+        mockMvc.perform(delete("/api/users/" + id).header("Authorization", adminJwt))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/users/stats").header("Authorization", adminJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.byRole.USER").value(1))
+                .andExpect(jsonPath("$.signupsPerDay", hasSize(30)))
+                .andExpect(jsonPath("$.signupsPerDay[29].count").value(1));
+    }
+
+    @Test @Order(2)
+    void TC_ST_002_reconciliationCorrectsDrift() throws Exception {
+        userStatsService.reconcile();
+
+        mockMvc.perform(get("/api/users/stats").header("Authorization", adminJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.byRole.ADMIN").value(1))
+                .andExpect(jsonPath("$.byRole.USER").value(1))
+                .andExpect(jsonPath("$.signupsPerDay[29].count").value(2))
+                .andExpect(jsonPath("$.reconciledAt").exists())
+                .andExpect(jsonPath("$.total").isNumber());
+    }
+
+    // Negative Test Cases
+
+    @Test @Order(3)
+    void TC_ST_003_adminOnly() throws Exception {
+        mockMvc.perform(get("/api/users/stats").header("Authorization", userJwt))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/users/stats"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test @Order(4)
+    void TC_ST_004_nonPositiveDaysRejected() throws Exception {
+        mockMvc.perform(get("/api/users/stats").param("days", "0").header("Authorization", adminJwt))
+                .andExpect(status().isBadRequest());
+    }
+
+    // Edge Test Cases
+
+    @Test @Order(5)
+    void TC_ST_005_daysCappedAtConfiguredWindow() throws Exception {
+        mockMvc.perform(get("/api/users/stats").param("days", "10000").header("Authorization", adminJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.signupsPerDay", hasSize(90)));
+    }
+}
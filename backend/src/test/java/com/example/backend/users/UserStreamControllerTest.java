@@ -0,0 +1,145 @@
+package com.example.backend.users;
+
+import com.example.backend.model.User;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.security.JwtUtil;
+import com.example.backend.web.UserChangeStream;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Date;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Needs MongoDB running as a replica set, like the causal read tests.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ActiveProfiles("test")
+public class UserStreamControllerTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserChangeStream userChangeStream;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String userJwt;
+
+    private MvcResult subscribe(String lastEventId) throws Exception {
+        var request = get("/api/users/stream").header("Authorization", userJwt).accept(MediaType.TEXT_EVENT_STREAM);
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!userChangeStream.isOpen() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        return result;
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            content = result.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains(expected), () -> "missing " + expected);
+        return content;
+    }
+
+    private User saveUser(String name, String email) {
+        return userRepository.save(new User(null, name, email, "hashedpassword", "USER", new Date(), new Date()));
+    }
+
+    @BeforeEach
+    void cleanDatabase() {
+        userRepository.deleteAll();
+        User user = saveUser("Valid User", "valid@example.com");
+        userJwt = "Bearer " + jwtUtil.generateToken(user.getId(), user.getEmail(), user.getRole());
+    }
+
+    // Positive Test Cases
+
+    @Test @Order(1)
+    void TC_US_001_insertIsStreamedWithoutPassword() throws Exception {
+        MvcResult stream = subscribe(null);
+        assertTrue(userChangeStream.isOpen());
+
+        User created = saveUser("Streamed User", "streamed@example.com");
+
+        String content = awaitContent(stream, "Streamed User");
+        assertTrue(content.contains("event:insert"));
+        assertTrue(content.contains("\"id\":\"" + created.getId() + "\""));
+        assertFalse(content.contains("password"));
+        assertFalse(content.contains("tokenVersion"));
+        assertEquals("no-store", stream.getResponse().getHeader("Cache-Control"));
+    }
+
+    @Test @Order(2)
+    void TC_US_002_reconnectReplaysMissedEvents() throws Exception {
+        MvcResult first = subscribe(null);
+        saveUser("Before Disconnect", "before@example.com");
+        Matcher lastId = EVENT_ID.matcher(awaitContent(first, "Before Disconnect"));
+        assertTrue(lastId.find());
+
+        saveUser("While Away", "away@example.com");
+        awaitContent(first, "While Away");
+
+        MvcResult resumed = subscribe(lastId.group(1));
+        String content = awaitContent(resumed, "While Away");
+        assertFalse(content.contains("Before Disconnect"));
+        assertFalse(content.contains("event:reset"));
+    }
+
+    // Negative Test Cases
+
+    @Test @Order(3)
+    void TC_US_003_unauthenticatedRefused() throws Exception {
+        mockMvc.perform(get("/api/users/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test @Order(4)
+    void TC_US_004_unknownLastEventIdGetsReset() throws Exception {
+        MvcResult stream = subscribe("not-a-known-event");
+        awaitContent(stream, "event:reset");
+    }
+
+    // Edge Test Cases
+
+    @Test @Order(5)
+    void TC_US_005_deletionCarriesIdOnly() throws Exception {
+        User doomed = saveUser("Doomed User", "doomed@example.com");
+        MvcResult stream = subscribe(null);
+
+        userRepository.deleteById(doomed.getId());
+
+        String content = awaitContent(stream, "event:delete");
+        assertTrue(content.contains("{\"type\":\"delete\",\"id\":\"" + doomed.getId() + "\"}"));
+    }
+}
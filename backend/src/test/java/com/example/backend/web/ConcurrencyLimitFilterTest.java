@@ -0,0 +1,103 @@
+package com.example.backend.web;
+
+import com.example.backend.config.AppProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrencyLimitFilterTest {
+
+    private static final String USER_BY_ID = "/api/users/65a0f1c2d3e4f5a6b7c8d9e0";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // Fixed limit of 4: LOW is admitted below 3 in flight, HIGH below 4
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(meterRegistry, new AppProperties(
+            null, null, null, null, null, null, new AppProperties.Concurrency(4, 4, 4),
+            null, null, null, null, null, null, null, null, null, null));
+
+    private interface Check {
+        void run() throws Exception;
+    }
+
+    private MockHttpServletResponse perform(String method, String path, FilterChain chain) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, path), response, chain);
+        return response;
+    }
+
+    /**
+     * Runs {@code check} while {@code count} requests are held in flight by the filter.
+     */
+    private void whileInflight(int count, Check check) throws Exception {
+        if (count == 0) {
+            check.run();
+            return;
+        }
+        perform("GET", USER_BY_ID, (request, response) -> {
+            try {
+                whileInflight(count - 1, check);
+            } catch (Exception e) {
+                throw new ServletException(e);
+            }
+        });
+    }
+
+    private double shed(RequestPriority priority) {
+        return meterRegistry.get("http.server.requests.shed").tag("priority", priority.name()).counter().count();
+    }
+
+    @Test
+    void TC_CF_001_admitsBelowThreshold() throws Exception {
+        MockHttpServletResponse response = perform("GET", "/api/users", (request, res) -> {
+            assertEquals(1, filter.getInflight());
+        });
+
+        assertEquals(200, response.getStatus());
+        assertEquals(0, filter.getInflight());
+    }
+
+    @Test
+    void TC_CF_002_shedsLowBeforeHigh() throws Exception {
+        whileInflight(3, () -> {
+            MockHttpServletResponse low = perform("GET", "/api/users", (request, response) -> fail("LOW admitted"));
+            assertEquals(503, low.getStatus());
+            assertEquals("1", low.getHeader("Retry-After"));
+            assertTrue(low.getContentAsString().contains("Service overloaded"));
+
+            boolean[] admitted = {false};
+            MockHttpServletResponse high = perform("GET", USER_BY_ID, (request, response) -> admitted[0] = true);
+            assertTrue(admitted[0]);
+            assertEquals(200, high.getStatus());
+        });
+
+        assertEquals(1.0, shed(RequestPriority.LOW));
+        assertEquals(0.0, shed(RequestPriority.HIGH));
+        assertEquals(0, filter.getInflight());
+    }
+
+    @Test
+    void TC_CF_003_shedsHighAtTheLimit() throws Exception {
+        whileInflight(4, () -> {
+            MockHttpServletResponse high = perform("GET", USER_BY_ID, (request, response) -> fail("HIGH admitted"));
+            assertEquals(503, high.getStatus());
+        });
+
+        assertEquals(1.0, shed(RequestPriority.HIGH));
+    }
+
+    @Test
+    void TC_CF_004_nonApiPathsAreNotLimited() throws Exception {
+        whileInflight(4, () -> {
+            boolean[] admitted = {false};
+            perform("GET", "/actuator/health", (request, response) -> admitted[0] = true);
+            assertTrue(admitted[0]);
+        });
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.backend.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GradientConcurrencyLimitTest {
+
+    private static final long BASELINE_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final GradientConcurrencyLimit limit = new GradientConcurrencyLimit(20, 4, 200);
+
+    private void samples(int count, long rttNanos) {
+        for (int i = 0; i < count; i++) {
+            limit.onSample(rttNanos, limit.getLimit());
+        }
+    }
+
+    @Test
+    void TC_GL_001_growsUnderSteadyLatency() {
+        samples(50, BASELINE_RTT);
+
+        assertTrue(limit.getLimit() > 20, () -> "limit " + limit.getLimit());
+        assertTrue(limit.getLimit() <= 200);
+    }
+
+    @Test
+    void TC_GL_002_backsOffWhenLatencyInflates() {
+        samples(50, BASELINE_RTT);
+        int grown = limit.getLimit();
+
+        samples(30, BASELINE_RTT * 10);
+
+        assertTrue(limit.getLimit() < grown, () -> "limit " + limit.getLimit() + " not below " + grown);
+        assertTrue(limit.getLimit() >= 4);
+    }
+
+    @Test
+    void TC_GL_003_applicationLimitedSamplesLeaveLimitAlone() {
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(BASELINE_RTT, 1);
+        }
+
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    void TC_GL_004_resetRestoresInitialLimit() {
+        samples(50, BASELINE_RTT);
+
+        limit.reset();
+
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    void TC_GL_005_invalidBoundsRefused() {
+        assertThrows(IllegalArgumentException.class, () -> new GradientConcurrencyLimit(10, 20, 30));
+        assertThrows(IllegalArgumentException.class, () -> new GradientConcurrencyLimit(10, 0, 30));
+    }
+}
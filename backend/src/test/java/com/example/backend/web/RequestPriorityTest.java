@@ -0,0 +1,43 @@
+package com.example.backend.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestPriorityTest {
+
+    private static RequestPriority of(String method, String path) {
+        return RequestPriority.of(new MockHttpServletRequest(method, path));
+    }
+
+    @Test
+    void TC_RP_001_userByIdIsHigh() {
+        assertEquals(RequestPriority.HIGH, of("GET", "/api/users/65a0f1c2d3e4f5a6b7c8d9e0"));
+        assertEquals(RequestPriority.HIGH, of("POST", "/auth/refresh"));
+    }
+
+    @Test
+    void TC_RP_002_credentialChecksAndListingsAreLow() {
+        assertEquals(RequestPriority.LOW, of("POST", "/auth/signin"));
+        assertEquals(RequestPriority.LOW, of("POST", "/auth/signup"));
+        assertEquals(RequestPriority.LOW, of("GET", "/api/users"));
+        assertEquals(RequestPriority.LOW, of("GET", "/api/users/export"));
+    }
+
+    @Test
+    void TC_RP_003_writesAndUnknownRoutesAreNormal() {
+        assertEquals(RequestPriority.NORMAL, of("PUT", "/api/users/65a0f1c2d3e4f5a6b7c8d9e0"));
+        assertEquals(RequestPriority.NORMAL, of("GET", "/api/users/not-an-id"));
+        assertEquals(RequestPriority.NORMAL, of("GET", "/internal/anything"));
+    }
+
+    @Test
+    void TC_RP_004_sharesOfTheLimit() {
+        assertEquals(100, RequestPriority.HIGH.admissionThreshold(100));
+        assertEquals(90, RequestPriority.NORMAL.admissionThreshold(100));
+        assertEquals(75, RequestPriority.LOW.admissionThreshold(100));
+        // Every class may always run at least one request
+        assertEquals(1, RequestPriority.LOW.admissionThreshold(1));
+    }
+}
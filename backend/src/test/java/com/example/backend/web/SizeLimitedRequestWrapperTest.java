@@ -0,0 +1,60 @@
+package com.example.backend.web;
+
+import com.example.backend.exception.PayloadTooLargeException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SizeLimitedRequestWrapperTest {
+
+    private static SizeLimitedRequestWrapper wrap(String body, long maxBytes) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/signup");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return new SizeLimitedRequestWrapper(request, maxBytes);
+    }
+
+    // Positive Test Cases
+
+    @Test
+    void TC_SL_001_readerIsReused() throws Exception {
+        SizeLimitedRequestWrapper request = wrap("first\nsecond\n", 100);
+
+        BufferedReader reader = request.getReader();
+        assertEquals("first", reader.readLine());
+        // A second reader would have lost whatever the first one buffered
+        assertSame(reader, request.getReader());
+        assertEquals("second", request.getReader().readLine());
+    }
+
+    @Test
+    void TC_SL_002_inputStreamIsReused() throws Exception {
+        SizeLimitedRequestWrapper request = wrap("body", 100);
+
+        assertSame(request.getInputStream(), request.getInputStream());
+        assertEquals("body", new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    // Negative Test Cases
+
+    @Test
+    void TC_SL_003_readerAndStreamAreExclusive() throws Exception {
+        SizeLimitedRequestWrapper readFirst = wrap("body", 100);
+        readFirst.getReader();
+        assertThrows(IllegalStateException.class, readFirst::getInputStream);
+
+        SizeLimitedRequestWrapper streamFirst = wrap("body", 100);
+        streamFirst.getInputStream();
+        assertThrows(IllegalStateException.class, streamFirst::getReader);
+    }
+
+    @Test
+    void TC_SL_004_readerFailsPastTheLimit() throws Exception {
+        SizeLimitedRequestWrapper request = wrap("x".repeat(20), 10);
+
+        assertThrows(PayloadTooLargeException.class, () -> request.getReader().readLine());
+    }
+}
@@ -5,6 +5,9 @@ import {
   signOut as signOutService,
   isAuthenticated,
   getToken,
+  getRefreshToken,
+  getTokenExpiresIn,
+  refreshSession,
   clearToken
 } from "../utils/authService";
 import { getUserById, UserProfile } from "../utils/userService";
@@ -31,6 +34,7 @@ const AuthContext = createContext<AuthContextType | undefined>(undefined);
 export const AuthProvider: React.FC<{ children: React.ReactNode }> = ({ children }) => {
   const [user, setUser] = useState<UserProfile | null>(null);
   const [isAuth, setIsAuth] = useState<boolean>(false);
+  const [tokenRefreshes, setTokenRefreshes] = useState<number>(0);
 
   // Check if token expired
   const isTokenExpired = (exp: number) => {
@@ -41,18 +45,14 @@ export const AuthProvider: React.FC<{ children: React.ReactNode }> = ({ children
   const loadUser = async () => {
     if (isAuthenticated()) {
       try {
-        const token = getToken();
-        if (!token) {
-          await signOut();
-          return;
+        let token = getToken();
+
+        // Access tokens are short-lived; exchange the refresh token when it has expired
+        if (!token || isTokenExpired(jwtDecode<JwtPayload>(token).exp)) {
+          token = await refreshSession();
         }
 
         const decoded = jwtDecode<JwtPayload>(token);
-
-        if (isTokenExpired(decoded.exp)) {
-          await signOut();
-          return;
-        }
         const userId = decoded.sub;
         const profile = await getUserById(userId);
         setUser(profile);
@@ -68,15 +68,35 @@ export const AuthProvider: React.FC<{ children: React.ReactNode }> = ({ children
     loadUser();
   }, []);
 
+  // Refresh the access token a minute before it expires (requests rejected with 401 are also retried once refreshed)
+  useEffect(() => {
+    if (!isAuth || !getRefreshToken()) return;
+
+    const timer = setTimeout(async () => {
+      try {
+        await refreshSession();
+        setTokenRefreshes((count) => count + 1);
+      } catch (error) {
+        console.error("Failed to refresh session:", error);
+        await unAuthUser();
+      }
+    }, Math.max(getTokenExpiresIn() - 60_000, 0));
+
+    return () => clearTimeout(timer);
+  }, [isAuth, tokenRefreshes]);
+
   const signIn = async (email: string, password: string) => {
     await signInService(email, password);
     await loadUser();
   };
 
   const signOut = async () => {
-    await signOutService();
-    setUser(null);
-    setIsAuth(false);
+    try {
+      await signOutService();
+    } finally {
+      setUser(null);
+      setIsAuth(false);
+    }
   };
 
   const unAuthUser = async () => {
@@ -1,16 +1,27 @@
-import axios from "axios";
+import axios, { AxiosError, InternalAxiosRequestConfig } from "axios";
 
 // Backend API base URL (from your .env)
 const API_URL = `${import.meta.env.VITE_API_URL}/auth`;
 
-// Store JWT in localStorage
-const storeToken = (token: string) => {
+// Tokens returned by sign-in and refresh
+interface TokenResponse {
+  token: string;
+  refreshToken: string;
+  expiresIn: number; // Access token lifetime in seconds
+}
+
+// Store JWT, refresh token and access token expiry in localStorage
+const storeTokens = ({ token, refreshToken, expiresIn }: TokenResponse) => {
   localStorage.setItem("token", token);
+  localStorage.setItem("refreshToken", refreshToken);
+  localStorage.setItem("tokenExpiresAt", String(Date.now() + expiresIn * 1000));
 };
 
-// Remove JWT
+// Remove JWT and refresh token
 export const clearToken = () => {
   localStorage.removeItem("token");
+  localStorage.removeItem("refreshToken");
+  localStorage.removeItem("tokenExpiresAt");
 };
 
 // Get JWT
@@ -18,6 +29,17 @@ export const getToken = () => {
   return localStorage.getItem("token");
 };
 
+// Get refresh token
+export const getRefreshToken = () => {
+  return localStorage.getItem("refreshToken");
+};
+
+// Milliseconds until the access token expires (0 when unknown)
+export const getTokenExpiresIn = () => {
+  const expiresAt = Number(localStorage.getItem("tokenExpiresAt"));
+  return expiresAt ? Math.max(expiresAt - Date.now(), 0) : 0;
+};
+
 // Sign up new user
 export const signUp = async (name: string, email: string, password: string) => {
   const response = await axios.post(`${API_URL}/signup`, {
@@ -30,37 +52,87 @@ export const signUp = async (name: string, email: string, password: string) => {
 
 // Sign in existing user
 export const signIn = async (email: string, password: string) => {
-  const response = await axios.post(`${API_URL}/signin`, {
+  const response = await axios.post<TokenResponse>(`${API_URL}/signin`, {
     email,
     password,
   });
 
-  const { token } = response.data;
-  storeToken(token);
+  storeTokens(response.data);
 
   return response.data;
 };
 
+// Refresh token requests in flight, shared so that a refresh token is only presented once
+let pendingRefresh: Promise<string> | null = null;
+
+// Exchange the refresh token for a new pair; each refresh token works only once
+export const refreshSession = () => {
+  if (!pendingRefresh) {
+    pendingRefresh = (async () => {
+      const refreshToken = getRefreshToken();
+      if (!refreshToken) {
+        throw new Error("No refresh token");
+      }
+
+      try {
+        const response = await axios.post<TokenResponse>(`${API_URL}/refresh`, { refreshToken });
+        storeTokens(response.data);
+        return response.data.token;
+      } catch (error) {
+        clearToken();
+        throw error;
+      }
+    })().finally(() => {
+      pendingRefresh = null;
+    });
+  }
+  return pendingRefresh;
+};
+
+// Retry API requests rejected with 401 once, with a refreshed access token
+axios.interceptors.response.use(undefined, async (error: AxiosError) => {
+  const request = error.config as (InternalAxiosRequestConfig & { _retried?: boolean }) | undefined;
+
+  if (
+    error.response?.status !== 401 ||
+    !request ||
+    request._retried ||
+    request.url?.startsWith(API_URL) ||
+    !getRefreshToken()
+  ) {
+    throw error;
+  }
+
+  request._retried = true;
+  const token = await refreshSession();
+  request.headers.Authorization = `Bearer ${token}`;
+  return axios(request);
+});
+
 // Sign out current user
 export const signOut = async () => {
   const token = getToken();
 
   if (!token) return;
 
-  await axios.post(
-    `${API_URL}/signout`,
-    {},
-    {
-      headers: {
-        Authorization: `Bearer ${token}`,
-      },
-    }
-  );
-
-  clearToken();
+  const refreshToken = getRefreshToken();
+
+  try {
+    await axios.post(
+      `${API_URL}/signout`,
+      refreshToken ? { refreshToken } : {},
+      {
+        headers: {
+          Authorization: `Bearer ${token}`,
+        },
+      }
+    );
+  } finally {
+    clearToken();
+  }
 };
 
 // Check if the user is authenticated
 export const isAuthenticated = () => {
-  return !!getToken();
+  return !!getToken() || !!getRefreshToken();
 };